@@ -0,0 +1,78 @@
+package com.workhub.server.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived cache of list totals keyed by region (table) and filter, so paged listings
+ * do not run a COUNT on every request. Writes invalidate their whole region.
+ */
+@Component
+@RequiredArgsConstructor
+public class CountCache {
+
+    public static final String TASKS = "tasks";
+    public static final String JOBS = "jobs";
+
+    private static final String CACHE_NAME = "paginationCounts";
+    private static final char SEPARATOR = ':';
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${pagination.count-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${pagination.count-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${pagination.count-cache.ttl:30s}")
+    private Duration ttl;
+
+    private Cache<String, Long> cache;
+
+    @PostConstruct
+    void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public long get(String region, String filter, LongSupplier counter) {
+        if (!enabled) {
+            return counter.getAsLong();
+        }
+        return cache.get(region + SEPARATOR + filter, key -> counter.getAsLong());
+    }
+
+    /**
+     * Drop every cached total of the region now and again after the surrounding transaction
+     * commits, so a concurrent request cannot re-cache the count as it was before the write.
+     */
+    public void invalidate(String region) {
+        String prefix = region + SEPARATOR;
+        Runnable eviction = () -> cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
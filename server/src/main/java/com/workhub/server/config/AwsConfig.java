@@ -1,12 +1,16 @@
 package com.workhub.server.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
 @RequiredArgsConstructor
@@ -16,15 +20,46 @@ public class AwsConfig {
 
     @Bean
     public S3Client s3Client() {
+        return S3Client.builder()
+                .region(Region.of(awsProperties.getRegion()))
+                .credentialsProvider(credentialsProvider())
+                .build();
+    }
+
+    // Signs URLs locally; no request is sent to S3
+    @Bean
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .region(Region.of(awsProperties.getRegion()))
+                .credentialsProvider(credentialsProvider())
+                .build();
+    }
+
+    @Bean
+    public S3AsyncClient s3AsyncClient(MeterRegistry meterRegistry) {
+        AwsProperties.AsyncClient async = awsProperties.getAsync();
+        return S3AsyncClient.builder()
+                .region(Region.of(awsProperties.getRegion()))
+                .credentialsProvider(credentialsProvider())
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(async.getMaxConcurrency())
+                        .maxPendingConnectionAcquires(async.getMaxPendingAcquires())
+                        .connectionAcquisitionTimeout(async.getConnectionAcquisitionTimeout())
+                        .connectionTimeout(async.getConnectionTimeout())
+                        .readTimeout(async.getReadTimeout())
+                        .writeTimeout(async.getWriteTimeout()))
+                .overrideConfiguration(override -> override
+                        .apiCallTimeout(async.getApiCallTimeout())
+                        .addMetricPublisher(new S3PoolMetricPublisher(meterRegistry)))
+                .build();
+    }
+
+    private StaticCredentialsProvider credentialsProvider() {
         AwsBasicCredentials awsCreds = AwsBasicCredentials.create(
                 awsProperties.getAccessKeyId(),
                 awsProperties.getSecretAccessKey()
         );
-
-        return S3Client.builder()
-                .region(Region.of(awsProperties.getRegion()))
-                .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
-                .build();
+        return StaticCredentialsProvider.create(awsCreds);
     }
 }
 
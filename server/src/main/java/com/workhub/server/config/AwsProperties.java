@@ -3,6 +3,9 @@ package com.workhub.server.config;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 @Getter
 @Setter
@@ -11,6 +14,7 @@ public class AwsProperties {
 
     private String region;
     private S3 s3 = new S3();
+    private AsyncClient async = new AsyncClient();
     private String accessKeyId;
     private String secretAccessKey;
 
@@ -18,7 +22,31 @@ public class AwsProperties {
     @Setter
     public static class S3 {
         private String bucket;
+        // Buffer per streaming upload; every multipart part but the last must be at least 5 MB
+        private DataSize uploadPartSize = DataSize.ofMegabytes(5);
+        // Part buffers shared by all streaming uploads, and how long an upload waits for one
+        private int uploadPartBuffers = 16;
+        private Duration uploadPartBufferWait = Duration.ofSeconds(10);
+        // Lifetime of presigned upload and download URLs
+        private Duration presignTtl = Duration.ofMinutes(10);
+        // Key uploads by the SHA-256 of their content so identical files are stored once
+        private boolean contentAddressed;
     }
-}
-
 
+    /**
+     * Connection pool and timeouts of the non-blocking S3 client. Calls beyond max-concurrency wait
+     * for a connection; beyond max-pending-acquires they fail fast instead of queueing.
+     */
+    @Getter
+    @Setter
+    public static class AsyncClient {
+        private int maxConcurrency = 50;
+        private int maxPendingAcquires = 500;
+        private Duration connectionAcquisitionTimeout = Duration.ofSeconds(5);
+        private Duration connectionTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(30);
+        private Duration writeTimeout = Duration.ofSeconds(30);
+        // Keep below spring.mvc.async.request-timeout so the S3 error reaches the client
+        private Duration apiCallTimeout = Duration.ofSeconds(25);
+    }
+}
@@ -0,0 +1,69 @@
+package com.workhub.server.config;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Exposes the async S3 client's connection pool state. The SDK reports it per call attempt, as seen
+ * when the attempt acquired its connection, so the gauges show the most recent observation.
+ */
+public class S3PoolMetricPublisher implements MetricPublisher {
+
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger max = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final DistributionSummary pendingSummary;
+
+    public S3PoolMetricPublisher(MeterRegistry meterRegistry) {
+        Gauge.builder("s3.client.pool.leased", leased, AtomicInteger::get)
+                .description("Connections in use by the async S3 client")
+                .register(meterRegistry);
+        Gauge.builder("s3.client.pool.pending", pending, AtomicInteger::get)
+                .description("Calls waiting for an S3 connection")
+                .register(meterRegistry);
+        Gauge.builder("s3.client.pool.saturation", this, S3PoolMetricPublisher::saturation)
+                .description("Share of the S3 connection pool in use; 1.0 means calls queue for a connection")
+                .register(meterRegistry);
+        this.pendingSummary = DistributionSummary.builder("s3.client.pool.pending.acquires")
+                .description("Calls already waiting for a connection when an S3 call started")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(MetricCollection metrics) {
+        // Pool metrics sit on the HTTP client collection, nested under each call attempt
+        List<Integer> pendingValues = metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES);
+        if (!pendingValues.isEmpty()) {
+            int latest = pendingValues.get(pendingValues.size() - 1);
+            pending.set(latest);
+            pendingSummary.record(latest);
+        }
+        update(metrics, HttpMetric.LEASED_CONCURRENCY, leased);
+        update(metrics, HttpMetric.MAX_CONCURRENCY, max);
+        metrics.children().forEach(this::publish);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private double saturation() {
+        int limit = max.get();
+        return limit == 0 ? 0 : (double) leased.get() / limit;
+    }
+
+    private static void update(MetricCollection metrics, SdkMetric<Integer> metric, AtomicInteger target) {
+        List<Integer> values = metrics.metricValues(metric);
+        if (!values.isEmpty()) {
+            target.set(values.get(values.size() - 1));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.workhub.server.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Background jobs, e.g. draining the file deletion outbox.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,7 @@
+package com.workhub.server.constant;
+
+public enum DeletionStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
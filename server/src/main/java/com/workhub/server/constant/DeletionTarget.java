@@ -0,0 +1,6 @@
+package com.workhub.server.constant;
+
+public enum DeletionTarget {
+    COMPANY,
+    JOB
+}
@@ -3,6 +3,10 @@ package com.workhub.server.constant;
 public enum UserRole {
     ADMIN,
     MANAGER,
-    STAFF
-}
+    STAFF;
 
+    // Single-bit flag so role sets can be compared with one AND
+    public int mask() {
+        return 1 << ordinal();
+    }
+}
@@ -18,11 +18,14 @@ import org.springframework.web.bind.annotation.RestController;
 import com.workhub.server.constant.UserRole;
 import com.workhub.server.dto.request.AddUserToCompanyRequest;
 import com.workhub.server.dto.request.CompanyRequest;
+import com.workhub.server.dto.request.PageCursor;
 import com.workhub.server.dto.response.ApiResponse;
 import com.workhub.server.dto.response.CompanyResponse;
+import com.workhub.server.dto.response.DeletionProgressResponse;
 import com.workhub.server.dto.response.PaginationResponse;
 import com.workhub.server.security.annotation.RequireAnyRole;
 import com.workhub.server.security.annotation.RequireRole;
+import com.workhub.server.service.CascadeDeleteService;
 import com.workhub.server.service.CompanyService;
 
 import jakarta.validation.Valid;
@@ -34,6 +37,7 @@ import lombok.RequiredArgsConstructor;
 @Validated
 public class CompanyController {
     private final CompanyService companyService;
+    private final CascadeDeleteService cascadeDeleteService;
 
     @PostMapping
     @RequireRole(UserRole.ADMIN)
@@ -56,8 +60,14 @@ public class CompanyController {
     @RequireRole(UserRole.ADMIN)
     public ResponseEntity<ApiResponse<PaginationResponse<CompanyResponse>>> getAllCompanies(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<CompanyResponse> companies = companyService.getAllCompanies(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(defaultValue = "true") boolean includeMembers,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<CompanyResponse> companies = after != null || limit != null
+                ? companyService.getAllCompanies(PageCursor.decode(after), limit != null ? limit : size, includeMembers)
+                : companyService.getAllCompanies(page, size, includeMembers, includeTotal);
         ApiResponse<PaginationResponse<CompanyResponse>> response = ApiResponse.success(companies);
         return ResponseEntity.ok(response);
     }
@@ -80,6 +90,18 @@ public class CompanyController {
         return ResponseEntity.ok(response);
     }
 
+    // Removes the company with everything under it in batches; background=true returns at once with a deletion id
+    @DeleteMapping("/{id}/cascade")
+    @RequireRole(UserRole.ADMIN)
+    public ResponseEntity<ApiResponse<DeletionProgressResponse>> deleteCompanyCascade(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "false") boolean background) {
+        DeletionProgressResponse progress = cascadeDeleteService.deleteCompany(id, background);
+        ApiResponse<DeletionProgressResponse> response = ApiResponse.success(
+                background ? "Company deletion started" : "Company deleted successfully", progress);
+        return ResponseEntity.status(background ? HttpStatus.ACCEPTED : HttpStatus.OK).body(response);
+    }
+
     @PostMapping("/{id}/users")
     @RequireRole(UserRole.ADMIN)
     public ResponseEntity<ApiResponse<Void>> addUserToCompany(
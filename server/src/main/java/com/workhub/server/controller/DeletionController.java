@@ -0,0 +1,32 @@
+package com.workhub.server.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.workhub.server.constant.UserRole;
+import com.workhub.server.dto.response.ApiResponse;
+import com.workhub.server.dto.response.DeletionProgressResponse;
+import com.workhub.server.security.annotation.RequireAnyRole;
+import com.workhub.server.service.CascadeDeleteService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/deletions")
+@RequiredArgsConstructor
+public class DeletionController {
+    private final CascadeDeleteService cascadeDeleteService;
+
+    @GetMapping("/{id}")
+    @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER})
+    public ResponseEntity<ApiResponse<DeletionProgressResponse>> getProgress(@PathVariable UUID id) {
+        DeletionProgressResponse progress = cascadeDeleteService.getProgress(id);
+        ApiResponse<DeletionProgressResponse> response = ApiResponse.success(progress);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,25 +1,41 @@
 package com.workhub.server.controller;
 
 import com.workhub.server.dto.response.ApiResponse;
+import com.workhub.server.dto.request.PresignedUploadRequest;
 import com.workhub.server.dto.response.FileUploadResponse;
+import com.workhub.server.dto.response.PresignedUrlResponse;
 import com.workhub.server.security.annotation.RequireAnyRole;
 import com.workhub.server.constant.UserRole;
+import com.workhub.server.service.AsyncFileStorageService;
+import com.workhub.server.service.FileDeletionService;
 import com.workhub.server.service.FileStorageService;
+import com.workhub.server.service.PresignedUploadService;
+import com.workhub.server.service.PresignedUrl;
+import com.workhub.server.service.StoredFile;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 import lombok.extern.slf4j.Slf4j;
+import java.io.IOException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -29,52 +45,106 @@ import java.nio.charset.StandardCharsets;
 public class FileController {
 
     private final FileStorageService fileStorageService;
+    private final AsyncFileStorageService asyncFileStorageService;
+    private final FileDeletionService fileDeletionService;
+    private final PresignedUploadService presignedUploadService;
 
     @Value("${aws.s3.bucket}")
     private String bucketName;
 
+    // Returns at once; the response is written when the S3 upload completes on the client's I/O threads
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER, UserRole.STAFF})
-    public ResponseEntity<ApiResponse<FileUploadResponse>> uploadFile(
+    public CompletableFuture<ResponseEntity<ApiResponse<FileUploadResponse>>> uploadFile(
             @RequestPart("file") MultipartFile file
     ) {
-        String fullKey = fileStorageService.upload(file, "uploads");
-        String url = buildFileUrl(fullKey);
-        
-        // Extract filename from key (remove "uploads/" prefix)
-        String fileName = extractFileName(fullKey);
+        return asyncFileStorageService.upload(file, "uploads").thenApply(this::uploaded);
+    }
 
-        FileUploadResponse payload = FileUploadResponse.builder()
-                .key(fileName)
-                .url(url)
-                .size(file.getSize())
-                .contentType(file.getContentType())
-                .build();
+    /**
+     * Raw request body upload: the body is piped to S3 part by part as it arrives, without the
+     * multipart resolver spooling the whole file first.
+     */
+    @PostMapping(value = "/stream", consumes = MediaType.ALL_VALUE)
+    @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER, UserRole.STAFF})
+    public ResponseEntity<ApiResponse<FileUploadResponse>> uploadStream(HttpServletRequest request)
+            throws IOException {
+        // Reject declared oversize bodies before reading; chunked bodies are capped while streaming
+        if (request.getContentLengthLong() > FileStorageService.MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("File size must not exceed 10 MB");
+        }
+
+        return uploaded(fileStorageService.upload(request.getInputStream(), "uploads"));
+    }
 
-        ApiResponse<FileUploadResponse> response =
-                ApiResponse.success("File uploaded successfully", payload);
+    /**
+     * Issue a signed PUT so the client uploads straight to S3; no file bytes pass through this server.
+     * The client calls the completion endpoint afterwards.
+     */
+    @PostMapping("/presigned-uploads")
+    @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER, UserRole.STAFF})
+    public ResponseEntity<ApiResponse<PresignedUrlResponse>> presignUpload(
+            @Valid @RequestBody PresignedUploadRequest request
+    ) {
+        PresignedUrl presigned = presignedUploadService.issue("uploads", request.getContentType(),
+                request.getSize());
+        return ResponseEntity.ok(ApiResponse.success("Upload URL issued", toResponse(presigned)));
+    }
 
-        return ResponseEntity.ok(response);
+    @PostMapping("/presigned-uploads/{key}/complete")
+    @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER, UserRole.STAFF})
+    public ResponseEntity<ApiResponse<FileUploadResponse>> completeUpload(@PathVariable String key) {
+        return uploaded(presignedUploadService.complete(toFullKey(key)));
+    }
+
+    @GetMapping("/{key}/download-url")
+    @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER, UserRole.STAFF})
+    public ResponseEntity<ApiResponse<PresignedUrlResponse>> presignDownload(@PathVariable String key) {
+        PresignedUrl presigned = fileStorageService.presignDownload(toFullKey(key));
+        return ResponseEntity.ok(ApiResponse.success("Download URL issued", toResponse(presigned)));
     }
 
     @DeleteMapping("/{key}")
     @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER, UserRole.STAFF})
     public ResponseEntity<ApiResponse<Void>> deleteFile(@PathVariable String key) {
-        try {
-            // URL decode the key in case it was encoded
-            String decodedKey = URLDecoder.decode(key, StandardCharsets.UTF_8);
-            
-            // If key doesn't contain "/", assume it's just filename and add "uploads/" prefix
-            String fullKey = decodedKey.contains("/") ? decodedKey : "uploads/" + decodedKey;
-            
-            fileStorageService.delete(fullKey);
-            
-            ApiResponse<Void> response = ApiResponse.success("File deleted successfully", null);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("Error deleting file from S3 with key: {}", key, e);
-            throw new RuntimeException("Failed to delete file from S3", e);
-        }
+        String fullKey = toFullKey(key);
+
+        // S3 is called by the deletion queue, not on the request thread
+        fileDeletionService.enqueue(fullKey);
+        log.info("Queued file for deletion from S3: {}", fullKey);
+
+        ApiResponse<Void> response = ApiResponse.successWithoutData("File scheduled for deletion");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    private ResponseEntity<ApiResponse<FileUploadResponse>> uploaded(StoredFile stored) {
+        FileUploadResponse payload = FileUploadResponse.builder()
+                // Extract filename from key (remove "uploads/" prefix)
+                .key(extractFileName(stored.key()))
+                .url(buildFileUrl(stored.key()))
+                .size(stored.size())
+                .contentType(stored.contentType())
+                .build();
+
+        return ResponseEntity.ok(ApiResponse.success("File uploaded successfully", payload));
+    }
+
+    private PresignedUrlResponse toResponse(PresignedUrl presigned) {
+        return PresignedUrlResponse.builder()
+                .key(extractFileName(presigned.key()))
+                .url(presigned.url())
+                .method(presigned.method())
+                .headers(presigned.headers())
+                .expiresAt(LocalDateTime.ofInstant(presigned.expiresAt(), ZoneId.systemDefault()))
+                .build();
+    }
+
+    private String toFullKey(String key) {
+        // URL decode the key in case it was encoded
+        String decodedKey = URLDecoder.decode(key, StandardCharsets.UTF_8);
+
+        // If key doesn't contain "/", assume it's just filename and add "uploads/" prefix
+        return decodedKey.contains("/") ? decodedKey : "uploads/" + decodedKey;
     }
 
     private String buildFileUrl(String key) {
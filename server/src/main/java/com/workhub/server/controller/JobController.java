@@ -17,12 +17,17 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.workhub.server.constant.JobStatus;
 import com.workhub.server.constant.UserRole;
+import com.workhub.server.dto.request.BulkJobStatusUpdateRequest;
 import com.workhub.server.dto.request.JobRequest;
 import com.workhub.server.dto.request.JobStatusUpdateRequest;
+import com.workhub.server.dto.request.PageCursor;
 import com.workhub.server.dto.response.ApiResponse;
+import com.workhub.server.dto.response.BulkStatusUpdateResponse;
+import com.workhub.server.dto.response.DeletionProgressResponse;
 import com.workhub.server.dto.response.JobResponse;
 import com.workhub.server.dto.response.PaginationResponse;
 import com.workhub.server.security.annotation.RequireAnyRole;
+import com.workhub.server.service.CascadeDeleteService;
 import com.workhub.server.service.JobService;
 
 import jakarta.validation.Valid;
@@ -36,6 +41,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 @Validated
 public class JobController {
     private final JobService jobService;
+    private final CascadeDeleteService cascadeDeleteService;
 
     @PostMapping
     @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER})
@@ -58,8 +64,13 @@ public class JobController {
     @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER, UserRole.STAFF})
     public ResponseEntity<ApiResponse<PaginationResponse<JobResponse>>> getAllJobs(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<JobResponse> jobs = jobService.getAllJobs(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<JobResponse> jobs = after != null || limit != null
+                ? jobService.getAllJobs(PageCursor.decode(after), limit != null ? limit : size)
+                : jobService.getAllJobs(page, size, includeTotal);
         ApiResponse<PaginationResponse<JobResponse>> response = ApiResponse.success(jobs);
         return ResponseEntity.ok(response);
     }
@@ -69,8 +80,13 @@ public class JobController {
     public ResponseEntity<ApiResponse<PaginationResponse<JobResponse>>> getJobsByCompany(
             @PathVariable UUID companyId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<JobResponse> jobs = jobService.getJobsByCompany(companyId, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<JobResponse> jobs = after != null || limit != null
+                ? jobService.getJobsByCompany(companyId, PageCursor.decode(after), limit != null ? limit : size)
+                : jobService.getJobsByCompany(companyId, page, size, includeTotal);
         ApiResponse<PaginationResponse<JobResponse>> response = ApiResponse.success(jobs);
         return ResponseEntity.ok(response);
     }
@@ -80,8 +96,13 @@ public class JobController {
     public ResponseEntity<ApiResponse<PaginationResponse<JobResponse>>> getJobsByOwner(
             @PathVariable UUID ownerId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<JobResponse> jobs = jobService.getJobsByOwner(ownerId, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<JobResponse> jobs = after != null || limit != null
+                ? jobService.getJobsByOwner(ownerId, PageCursor.decode(after), limit != null ? limit : size)
+                : jobService.getJobsByOwner(ownerId, page, size, includeTotal);
         ApiResponse<PaginationResponse<JobResponse>> response = ApiResponse.success(jobs);
         return ResponseEntity.ok(response);
     }
@@ -91,8 +112,13 @@ public class JobController {
     public ResponseEntity<ApiResponse<PaginationResponse<JobResponse>>> getJobsByStatus(
             @PathVariable JobStatus status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<JobResponse> jobs = jobService.getJobsByStatus(status, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<JobResponse> jobs = after != null || limit != null
+                ? jobService.getJobsByStatus(status, PageCursor.decode(after), limit != null ? limit : size)
+                : jobService.getJobsByStatus(status, page, size, includeTotal);
         ApiResponse<PaginationResponse<JobResponse>> response = ApiResponse.success(jobs);
         return ResponseEntity.ok(response);
     }
@@ -103,8 +129,14 @@ public class JobController {
             @PathVariable UUID companyId,
             @PathVariable JobStatus status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<JobResponse> jobs = jobService.getJobsByCompanyAndStatus(companyId, status, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<JobResponse> jobs = after != null || limit != null
+                ? jobService.getJobsByCompanyAndStatus(companyId, status, PageCursor.decode(after),
+                        limit != null ? limit : size)
+                : jobService.getJobsByCompanyAndStatus(companyId, status, page, size, includeTotal);
         ApiResponse<PaginationResponse<JobResponse>> response = ApiResponse.success(jobs);
         return ResponseEntity.ok(response);
     }
@@ -119,6 +151,16 @@ public class JobController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/bulk/status")
+    @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER})
+    public ResponseEntity<ApiResponse<BulkStatusUpdateResponse>> updateJobStatuses(
+            @Valid @RequestBody BulkJobStatusUpdateRequest request) {
+        BulkStatusUpdateResponse result = jobService.updateJobStatuses(request);
+        ApiResponse<BulkStatusUpdateResponse> response = ApiResponse.success(
+                result.getUpdated() + " jobs updated", result);
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/{id}/status")
     @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER})
     public ResponseEntity<ApiResponse<JobResponse>> updateJobStatus(
@@ -136,4 +178,16 @@ public class JobController {
         ApiResponse<Void> response = ApiResponse.successWithoutData("Job deleted successfully");
         return ResponseEntity.ok(response);
     }
+
+    // Removes the job with everything under it in batches; background=true returns at once with a deletion id
+    @DeleteMapping("/{id}/cascade")
+    @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER})
+    public ResponseEntity<ApiResponse<DeletionProgressResponse>> deleteJobCascade(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "false") boolean background) {
+        DeletionProgressResponse progress = cascadeDeleteService.deleteJob(id, background);
+        ApiResponse<DeletionProgressResponse> response = ApiResponse.success(
+                background ? "Job deletion started" : "Job deleted successfully", progress);
+        return ResponseEntity.status(background ? HttpStatus.ACCEPTED : HttpStatus.OK).body(response);
+    }
 }
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.workhub.server.constant.UserRole;
+import com.workhub.server.dto.request.PageCursor;
 import com.workhub.server.dto.request.TaskCommentRequest;
 import com.workhub.server.dto.response.ApiResponse;
 import com.workhub.server.dto.response.PaginationResponse;
@@ -53,8 +54,13 @@ public class TaskCommentController {
     @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER, UserRole.STAFF})
     public ResponseEntity<ApiResponse<PaginationResponse<TaskCommentResponse>>> getAllComments(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<TaskCommentResponse> comments = taskCommentService.getAllComments(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<TaskCommentResponse> comments = after != null || limit != null
+                ? taskCommentService.getAllComments(PageCursor.decode(after), limit != null ? limit : size)
+                : taskCommentService.getAllComments(page, size, includeTotal);
         ApiResponse<PaginationResponse<TaskCommentResponse>> response = ApiResponse.success(comments);
         return ResponseEntity.ok(response);
     }
@@ -64,8 +70,13 @@ public class TaskCommentController {
     public ResponseEntity<ApiResponse<PaginationResponse<TaskCommentResponse>>> getCommentsByTask(
             @PathVariable UUID taskId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<TaskCommentResponse> comments = taskCommentService.getCommentsByTask(taskId, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<TaskCommentResponse> comments = after != null || limit != null
+                ? taskCommentService.getCommentsByTask(taskId, PageCursor.decode(after), limit != null ? limit : size)
+                : taskCommentService.getCommentsByTask(taskId, page, size, includeTotal);
         ApiResponse<PaginationResponse<TaskCommentResponse>> response = ApiResponse.success(comments);
         return ResponseEntity.ok(response);
     }
@@ -75,8 +86,13 @@ public class TaskCommentController {
     public ResponseEntity<ApiResponse<PaginationResponse<TaskCommentResponse>>> getCommentsByUser(
             @PathVariable UUID userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<TaskCommentResponse> comments = taskCommentService.getCommentsByUser(userId, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<TaskCommentResponse> comments = after != null || limit != null
+                ? taskCommentService.getCommentsByUser(userId, PageCursor.decode(after), limit != null ? limit : size)
+                : taskCommentService.getCommentsByUser(userId, page, size, includeTotal);
         ApiResponse<PaginationResponse<TaskCommentResponse>> response = ApiResponse.success(comments);
         return ResponseEntity.ok(response);
     }
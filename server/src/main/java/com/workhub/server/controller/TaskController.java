@@ -17,9 +17,14 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.workhub.server.constant.TaskStatus;
 import com.workhub.server.constant.UserRole;
+import com.workhub.server.dto.request.BulkTaskRequest;
+import com.workhub.server.dto.request.BulkTaskStatusUpdateRequest;
+import com.workhub.server.dto.request.PageCursor;
 import com.workhub.server.dto.request.TaskRequest;
 import com.workhub.server.dto.request.TaskStatusUpdateRequest;
 import com.workhub.server.dto.response.ApiResponse;
+import com.workhub.server.dto.response.BulkStatusUpdateResponse;
+import com.workhub.server.dto.response.BulkTaskResponse;
 import com.workhub.server.dto.response.PaginationResponse;
 import com.workhub.server.dto.response.TaskResponse;
 import com.workhub.server.security.annotation.RequireAnyRole;
@@ -46,6 +51,16 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/bulk")
+    @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER})
+    public ResponseEntity<ApiResponse<BulkTaskResponse>> createTasks(
+            @Valid @RequestBody BulkTaskRequest request) {
+        BulkTaskResponse result = taskService.createTasks(request);
+        ApiResponse<BulkTaskResponse> response = ApiResponse.success(
+                result.getCreated() + " of " + request.getTasks().size() + " tasks created", result);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping("/{id}")
     @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER, UserRole.STAFF})
     public ResponseEntity<ApiResponse<TaskResponse>> getTaskById(@PathVariable UUID id) {
@@ -58,8 +73,13 @@ public class TaskController {
     @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER, UserRole.STAFF})
     public ResponseEntity<ApiResponse<PaginationResponse<TaskResponse>>> getAllTasks(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<TaskResponse> tasks = taskService.getAllTasks(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<TaskResponse> tasks = after != null || limit != null
+                ? taskService.getAllTasks(PageCursor.decode(after), limit != null ? limit : size)
+                : taskService.getAllTasks(page, size, includeTotal);
         ApiResponse<PaginationResponse<TaskResponse>> response = ApiResponse.success(tasks);
         return ResponseEntity.ok(response);
     }
@@ -69,8 +89,13 @@ public class TaskController {
     public ResponseEntity<ApiResponse<PaginationResponse<TaskResponse>>> getTasksByCompany(
             @PathVariable UUID companyId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<TaskResponse> tasks = taskService.getTasksByCompany(companyId, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<TaskResponse> tasks = after != null || limit != null
+                ? taskService.getTasksByCompany(companyId, PageCursor.decode(after), limit != null ? limit : size)
+                : taskService.getTasksByCompany(companyId, page, size, includeTotal);
         ApiResponse<PaginationResponse<TaskResponse>> response = ApiResponse.success(tasks);
         return ResponseEntity.ok(response);
     }
@@ -80,8 +105,13 @@ public class TaskController {
     public ResponseEntity<ApiResponse<PaginationResponse<TaskResponse>>> getTasksByJob(
             @PathVariable UUID jobId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<TaskResponse> tasks = taskService.getTasksByJob(jobId, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<TaskResponse> tasks = after != null || limit != null
+                ? taskService.getTasksByJob(jobId, PageCursor.decode(after), limit != null ? limit : size)
+                : taskService.getTasksByJob(jobId, page, size, includeTotal);
         ApiResponse<PaginationResponse<TaskResponse>> response = ApiResponse.success(tasks);
         return ResponseEntity.ok(response);
     }
@@ -91,8 +121,13 @@ public class TaskController {
     public ResponseEntity<ApiResponse<PaginationResponse<TaskResponse>>> getTasksByAssignee(
             @PathVariable UUID assigneeId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<TaskResponse> tasks = taskService.getTasksByAssignee(assigneeId, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<TaskResponse> tasks = after != null || limit != null
+                ? taskService.getTasksByAssignee(assigneeId, PageCursor.decode(after), limit != null ? limit : size)
+                : taskService.getTasksByAssignee(assigneeId, page, size, includeTotal);
         ApiResponse<PaginationResponse<TaskResponse>> response = ApiResponse.success(tasks);
         return ResponseEntity.ok(response);
     }
@@ -102,8 +137,13 @@ public class TaskController {
     public ResponseEntity<ApiResponse<PaginationResponse<TaskResponse>>> getTasksByStatus(
             @PathVariable TaskStatus status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<TaskResponse> tasks = taskService.getTasksByStatus(status, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<TaskResponse> tasks = after != null || limit != null
+                ? taskService.getTasksByStatus(status, PageCursor.decode(after), limit != null ? limit : size)
+                : taskService.getTasksByStatus(status, page, size, includeTotal);
         ApiResponse<PaginationResponse<TaskResponse>> response = ApiResponse.success(tasks);
         return ResponseEntity.ok(response);
     }
@@ -114,8 +154,14 @@ public class TaskController {
             @PathVariable UUID jobId,
             @PathVariable TaskStatus status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<TaskResponse> tasks = taskService.getTasksByJobAndStatus(jobId, status, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<TaskResponse> tasks = after != null || limit != null
+                ? taskService.getTasksByJobAndStatus(jobId, status, PageCursor.decode(after),
+                        limit != null ? limit : size)
+                : taskService.getTasksByJobAndStatus(jobId, status, page, size, includeTotal);
         ApiResponse<PaginationResponse<TaskResponse>> response = ApiResponse.success(tasks);
         return ResponseEntity.ok(response);
     }
@@ -126,8 +172,14 @@ public class TaskController {
             @PathVariable UUID assigneeId,
             @PathVariable TaskStatus status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<TaskResponse> tasks = taskService.getTasksByAssigneeAndStatus(assigneeId, status, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<TaskResponse> tasks = after != null || limit != null
+                ? taskService.getTasksByAssigneeAndStatus(assigneeId, status, PageCursor.decode(after),
+                        limit != null ? limit : size)
+                : taskService.getTasksByAssigneeAndStatus(assigneeId, status, page, size, includeTotal);
         ApiResponse<PaginationResponse<TaskResponse>> response = ApiResponse.success(tasks);
         return ResponseEntity.ok(response);
     }
@@ -142,6 +194,16 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    @PatchMapping("/bulk/status")
+    @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER})
+    public ResponseEntity<ApiResponse<BulkStatusUpdateResponse>> updateTaskStatuses(
+            @Valid @RequestBody BulkTaskStatusUpdateRequest request) {
+        BulkStatusUpdateResponse result = taskService.updateTaskStatuses(request);
+        ApiResponse<BulkStatusUpdateResponse> response = ApiResponse.success(
+                result.getUpdated() + " tasks updated", result);
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/{id}/status")
     @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER})
     public ResponseEntity<ApiResponse<TaskResponse>> updateTaskStatus(
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.workhub.server.constant.UserRole;
+import com.workhub.server.dto.request.PageCursor;
 import com.workhub.server.dto.request.UserRequest;
 import com.workhub.server.dto.response.ApiResponse;
 import com.workhub.server.dto.response.PaginationResponse;
@@ -54,8 +55,13 @@ public class UserController {
     @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER})
     public ResponseEntity<ApiResponse<PaginationResponse<UserResponse>>> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<UserResponse> users = userService.getAllUsers(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<UserResponse> users = after != null || limit != null
+                ? userService.getAllUsers(PageCursor.decode(after), limit != null ? limit : size)
+                : userService.getAllUsers(page, size, includeTotal);
         ApiResponse<PaginationResponse<UserResponse>> response = ApiResponse.success(users);
         return ResponseEntity.ok(response);
     }
@@ -65,8 +71,13 @@ public class UserController {
     public ResponseEntity<ApiResponse<PaginationResponse<UserResponse>>> getUsersByCompany(
             @PathVariable UUID companyId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<UserResponse> users = userService.getUsersByCompany(companyId, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        PaginationResponse<UserResponse> users = after != null || limit != null
+                ? userService.getUsersByCompany(companyId, PageCursor.decode(after), limit != null ? limit : size)
+                : userService.getUsersByCompany(companyId, page, size, includeTotal);
         ApiResponse<PaginationResponse<UserResponse>> response = ApiResponse.success(users);
         return ResponseEntity.ok(response);
     }
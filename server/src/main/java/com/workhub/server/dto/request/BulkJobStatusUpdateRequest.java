@@ -0,0 +1,35 @@
+package com.workhub.server.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.workhub.server.constant.JobStatus;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Moves jobs to {@code status}, selected either by {@code ids} or by {@code companyId}
+ * (optionally narrowed to those currently in {@code currentStatus}).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkJobStatusUpdateRequest {
+    @NotNull(message = "Status is required")
+    private JobStatus status;
+
+    @Size(max = 1000, message = "At most 1000 ids can be updated per request")
+    private List<UUID> ids;
+
+    private UUID companyId;
+
+    private JobStatus currentStatus;
+}
@@ -0,0 +1,25 @@
+package com.workhub.server.dto.request;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTaskRequest {
+    public static final int MAX_TASKS = 1000;
+
+    @NotEmpty(message = "Tasks are required")
+    @Size(max = MAX_TASKS, message = "At most " + MAX_TASKS + " tasks can be created per request")
+    private List<@Valid TaskRequest> tasks;
+}
@@ -0,0 +1,45 @@
+package com.workhub.server.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Position in a list ordered by {@code (createdAt DESC, id DESC)}. Clients only see the opaque
+ * {@link #encode()} form and pass it back as {@code ?after=}.
+ */
+public record PageCursor(LocalDateTime createdAt, UUID id) {
+
+    // Sorts after every stored row, so seeking past it returns the first page
+    public static final PageCursor FIRST = new PageCursor(
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59), new UUID(-1L, -1L));
+
+    private static final char SEPARATOR = '|';
+
+    public static PageCursor decode(String value) {
+        if (!StringUtils.hasText(value)) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+            return new PageCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
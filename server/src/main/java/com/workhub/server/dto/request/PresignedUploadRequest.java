@@ -0,0 +1,28 @@
+package com.workhub.server.dto.request;
+
+import com.workhub.server.service.FileStorageService;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PresignedUploadRequest {
+    @NotBlank(message = "Content type is required")
+    private String contentType;
+
+    @NotNull(message = "Size is required")
+    @Positive(message = "File must not be empty")
+    @Max(value = FileStorageService.MAX_FILE_SIZE, message = "File size must not exceed 10 MB")
+    private Long size;
+}
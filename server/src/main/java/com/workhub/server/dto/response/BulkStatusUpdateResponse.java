@@ -0,0 +1,20 @@
+package com.workhub.server.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkStatusUpdateResponse {
+    // Number of ids sent; absent when the update was selected by filter
+    private Integer requested;
+    // Rows whose status actually changed
+    private int updated;
+}
@@ -0,0 +1,42 @@
+package com.workhub.server.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResponse {
+    private int created;
+    private int failed;
+    private List<ItemResult> results;
+
+    /**
+     * Outcome for the task at {@code index} in the request: the new id, or why it was rejected.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResult {
+        private int index;
+        private UUID id;
+        private String error;
+
+        public static ItemResult created(int index, UUID id) {
+            return new ItemResult(index, id, null);
+        }
+
+        public static ItemResult failed(int index, String error) {
+            return new ItemResult(index, null, error);
+        }
+    }
+}
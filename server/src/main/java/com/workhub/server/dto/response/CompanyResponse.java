@@ -2,6 +2,7 @@ package com.workhub.server.dto.response;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -23,6 +24,8 @@ public class CompanyResponse {
     private String name;
     private String address;
     private String logoUrl;
+    // Resized JPEG URLs by width; absent until generated
+    private Map<Integer, String> logoVariants;
     private Long userCount;
     private List<UserResponse> users;
     private LocalDateTime createdAt;
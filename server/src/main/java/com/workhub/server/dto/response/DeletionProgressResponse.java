@@ -0,0 +1,32 @@
+package com.workhub.server.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.workhub.server.constant.DeletionStatus;
+import com.workhub.server.constant.DeletionTarget;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DeletionProgressResponse {
+    private UUID id;
+    private DeletionTarget target;
+    private UUID targetId;
+    private DeletionStatus status;
+    private long commentsDeleted;
+    private long tasksDeleted;
+    private long jobsDeleted;
+    private long membershipsDeleted;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
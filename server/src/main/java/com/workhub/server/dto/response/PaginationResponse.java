@@ -1,16 +1,58 @@
 package com.workhub.server.dto.response;
 
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.springframework.data.domain.Slice;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.workhub.server.dto.request.PageCursor;
 
-import lombok.Getter;
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 
 @Getter
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PaginationResponse<T> {
     private List<T> items;
-    private int page;
+    private Integer page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    // Null when the caller skipped the count (includeTotal=false) or used cursor mode
+    private Long totalElements;
+    private Integer totalPages;
+    private boolean hasNext;
+    // Only set in cursor mode
+    private String nextCursor;
+
+    public PaginationResponse(List<T> items, int page, int size, long totalElements, int totalPages) {
+        this(items, page, size, totalElements, totalPages, page + 1 < totalPages, null);
+    }
+
+    /**
+     * Offset page built from a {@link Slice}. The counter only runs when totals are requested and
+     * cannot be derived from the slice itself (a last page already knows the total).
+     */
+    public static <T> PaginationResponse<T> of(Slice<T> slice, boolean includeTotal, LongSupplier counter) {
+        Long totalElements = null;
+        Integer totalPages = null;
+        if (includeTotal) {
+            boolean lastPageKnown = !slice.hasNext() && (slice.hasContent() || slice.getNumber() == 0);
+            totalElements = lastPageKnown
+                    ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                    : counter.getAsLong();
+            totalPages = (int) Math.ceil((double) totalElements / slice.getSize());
+        }
+        return new PaginationResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(),
+                totalElements, totalPages, slice.hasNext(), null);
+    }
+
+    public static <T> PaginationResponse<T> ofSlice(Slice<T> slice, Function<T, PageCursor> cursorOf) {
+        List<T> items = slice.getContent();
+        String nextCursor = slice.hasNext() && !items.isEmpty()
+                ? cursorOf.apply(items.get(items.size() - 1)).encode()
+                : null;
+        return new PaginationResponse<>(items, null, slice.getSize(), null, null, slice.hasNext(), nextCursor);
+    }
 }
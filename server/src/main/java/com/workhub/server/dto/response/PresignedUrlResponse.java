@@ -0,0 +1,21 @@
+package com.workhub.server.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUrlResponse {
+    private String key;
+    private String url;
+    private String method;
+    private Map<String, String> headers;
+    private LocalDateTime expiresAt;
+}
@@ -1,6 +1,7 @@
 package com.workhub.server.dto.response;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -25,6 +26,8 @@ public class UserResponse {
     private String fullName;
     private String email;
     private String avatarUrl;
+    // Resized JPEG URLs by width; absent until generated
+    private Map<Integer, String> avatarVariants;
     private UserRole role;
     private Boolean isActive;
     private LocalDateTime createdAt;
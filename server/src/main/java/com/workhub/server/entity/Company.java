@@ -3,23 +3,27 @@ package com.workhub.server.entity;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.workhub.server.entity.id.UuidV7Generator;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;   
 
-@Table(name = "companies")
+@Table(name = "companies", indexes = {
+        @Index(name = "idx_companies_created", columnList = "created_at")
+})
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -28,7 +32,7 @@ import lombok.Setter;
 @AllArgsConstructor
 public class Company {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -41,6 +45,10 @@ public class Company {
     @Column(name = "logo_url")
     private String logoUrl;
 
+    // Widths of the resized variants stored next to the logo, e.g. "64,256"; null until generated
+    @Column(name = "logo_variants", length = 64)
+    private String logoVariants;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -3,25 +3,32 @@ package com.workhub.server.entity;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.workhub.server.entity.id.UuidV7Generator;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-@Table(name = "company_users")
+@Table(name = "company_users", uniqueConstraints = {
+        @UniqueConstraint(name = CompanyUser.UNIQUE_MEMBERSHIP, columnNames = {"company_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_company_users_user", columnList = "user_id, company_id")
+})
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -29,8 +36,10 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 public class CompanyUser {
+    public static final String UNIQUE_MEMBERSHIP = "uk_company_users_company_user";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
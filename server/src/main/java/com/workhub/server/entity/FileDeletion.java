@@ -0,0 +1,57 @@
+package com.workhub.server.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.UuidGenerator;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.workhub.server.entity.id.UuidV7Generator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Outbox row for a storage object that must be deleted once the transaction that recorded it commits.
+ */
+@Table(name = "file_deletions", indexes = {
+        @Index(name = "idx_file_deletions_next_attempt", columnList = "next_attempt_at"),
+        @Index(name = "idx_file_deletions_object_key", columnList = "object_key")
+})
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileDeletion {
+    @Id
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(name = "object_key", nullable = false)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
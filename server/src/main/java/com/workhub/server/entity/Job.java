@@ -3,12 +3,14 @@ package com.workhub.server.entity;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.workhub.server.constant.JobPriority;
 import com.workhub.server.constant.JobStatus;
+import com.workhub.server.entity.id.UuidV7Generator;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -16,9 +18,8 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -27,7 +28,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_company_status", columnList = "company_id, status, created_at"),
+        @Index(name = "idx_jobs_owner", columnList = "owner_id, created_at"),
+        @Index(name = "idx_jobs_status", columnList = "status, created_at"),
+        @Index(name = "idx_jobs_created", columnList = "created_at")
+})
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -36,7 +42,7 @@ import lombok.Setter;
 @AllArgsConstructor
 public class Job {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
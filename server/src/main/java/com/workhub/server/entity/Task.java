@@ -8,6 +8,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.workhub.server.constant.TaskStatus;
+import com.workhub.server.entity.id.UuidV7Generator;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -15,9 +16,8 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -27,9 +27,16 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_job_status", columnList = "job_id, status, created_at"),
+        @Index(name = "idx_tasks_assignee_status", columnList = "assignee_id, status, created_at"),
+        @Index(name = "idx_tasks_company", columnList = "company_id, created_at"),
+        @Index(name = "idx_tasks_status", columnList = "status, created_at"),
+        @Index(name = "idx_tasks_created", columnList = "created_at")
+})
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -38,7 +45,7 @@ import org.hibernate.type.SqlTypes;
 @AllArgsConstructor
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @JdbcTypeCode(SqlTypes.BINARY)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
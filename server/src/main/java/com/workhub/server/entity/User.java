@@ -3,27 +3,30 @@ package com.workhub.server.entity;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.workhub.server.constant.UserRole;
+import com.workhub.server.entity.id.UuidV7Generator;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_created", columnList = "created_at")
+})
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -32,7 +35,7 @@ import lombok.Setter;
 @AllArgsConstructor
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -48,6 +51,10 @@ public class User {
     @Column(name = "avatar_url")
     private String avatarUrl;
 
+    // Widths of the resized variants stored next to the avatar, e.g. "64,256"; null until generated
+    @Column(name = "avatar_variants", length = 64)
+    private String avatarVariants;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private UserRole role;
@@ -15,11 +15,14 @@ import org.springframework.web.context.request.WebRequest;
 import com.workhub.server.dto.response.ApiResponse;
 import com.workhub.server.dto.response.ErrorResponse;
 import com.workhub.server.exception.custom.CompanyNotFoundException;
+import com.workhub.server.exception.custom.DeletionNotFoundException;
 import com.workhub.server.exception.custom.DuplicateCompanyNameException;
 import com.workhub.server.exception.custom.DuplicateEmailException;
 import com.workhub.server.exception.custom.JobNotFoundException;
 import com.workhub.server.exception.custom.TaskCommentNotFoundException;
 import com.workhub.server.exception.custom.TaskNotFoundException;
+import com.workhub.server.exception.custom.UploadCapacityExceededException;
+import com.workhub.server.exception.custom.UploadNotFoundException;
 import com.workhub.server.exception.custom.UserNotFoundException;
 
 @RestControllerAdvice
@@ -113,6 +116,36 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
         }
 
+        // Deletion Exceptions
+        @ExceptionHandler(DeletionNotFoundException.class)
+        public ResponseEntity<ApiResponse<ErrorResponse>> handleDeletionNotFoundException(
+                        DeletionNotFoundException ex, WebRequest request) {
+                ErrorResponse errorDetails = ErrorResponse.builder()
+                                .error("Deletion Not Found")
+                                .message(ex.getMessage())
+                                .status(HttpStatus.NOT_FOUND.value())
+                                .path(request.getDescription(false).replace("uri=", ""))
+                                .build();
+
+                ApiResponse<ErrorResponse> response = ApiResponse.error("Deletion not found", errorDetails);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+
+        // Upload Exceptions
+        @ExceptionHandler(UploadNotFoundException.class)
+        public ResponseEntity<ApiResponse<ErrorResponse>> handleUploadNotFoundException(
+                        UploadNotFoundException ex, WebRequest request) {
+                ErrorResponse errorDetails = ErrorResponse.builder()
+                                .error("Upload Not Found")
+                                .message(ex.getMessage())
+                                .status(HttpStatus.NOT_FOUND.value())
+                                .path(request.getDescription(false).replace("uri=", ""))
+                                .build();
+
+                ApiResponse<ErrorResponse> response = ApiResponse.error("Upload not found", errorDetails);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+
         // TaskComment Exceptions
         @ExceptionHandler(TaskCommentNotFoundException.class)
         public ResponseEntity<ApiResponse<ErrorResponse>> handleTaskCommentNotFoundException(
@@ -183,6 +216,20 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
         }
 
+        @ExceptionHandler(UploadCapacityExceededException.class)
+        public ResponseEntity<ApiResponse<ErrorResponse>> handleUploadCapacityExceededException(
+                        UploadCapacityExceededException ex, WebRequest request) {
+                ErrorResponse errorDetails = ErrorResponse.builder()
+                                .error("Service Unavailable")
+                                .message(ex.getMessage())
+                                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                                .path(request.getDescription(false).replace("uri=", ""))
+                                .build();
+
+                ApiResponse<ErrorResponse> response = ApiResponse.error("Upload capacity exceeded", errorDetails);
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        }
+
         @ExceptionHandler(IllegalArgumentException.class)
         public ResponseEntity<ApiResponse<ErrorResponse>> handleIllegalArgumentException(
                         IllegalArgumentException ex, WebRequest request) {
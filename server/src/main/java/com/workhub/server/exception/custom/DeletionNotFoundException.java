@@ -0,0 +1,9 @@
+package com.workhub.server.exception.custom;
+
+import java.util.UUID;
+
+public class DeletionNotFoundException extends RuntimeException {
+    public DeletionNotFoundException(UUID id) {
+        super("Deletion with id " + id + " not found");
+    }
+}
@@ -0,0 +1,7 @@
+package com.workhub.server.exception.custom;
+
+public class UploadCapacityExceededException extends RuntimeException {
+    public UploadCapacityExceededException() {
+        super("Too many uploads in progress, please retry shortly");
+    }
+}
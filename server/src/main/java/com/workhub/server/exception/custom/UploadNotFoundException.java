@@ -0,0 +1,7 @@
+package com.workhub.server.exception.custom;
+
+public class UploadNotFoundException extends RuntimeException {
+    public UploadNotFoundException(String key) {
+        super("No uploaded file found for key: " + key);
+    }
+}
@@ -7,19 +7,24 @@ import org.mapstruct.MappingTarget;
 import com.workhub.server.dto.request.CompanyRequest;
 import com.workhub.server.dto.response.CompanyResponse;
 import com.workhub.server.entity.Company;
+import com.workhub.server.service.ImageVariants;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = ImageVariants.class)
 public interface CompanyMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "logoVariants", ignore = true)
     Company toEntity(CompanyRequest request);
 
+    @Mapping(target = "logoVariants",
+            expression = "java(ImageVariants.urls(entity.getLogoUrl(), entity.getLogoVariants()))")
     CompanyResponse toResponse(Company entity);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "logoVariants", ignore = true)
     void updateEntityFromRequest(CompanyRequest request, @MappingTarget Company company);
 }
 
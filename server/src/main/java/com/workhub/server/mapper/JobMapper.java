@@ -7,6 +7,7 @@ import org.mapstruct.MappingTarget;
 import com.workhub.server.dto.request.JobRequest;
 import com.workhub.server.dto.response.JobResponse;
 import com.workhub.server.entity.Job;
+import com.workhub.server.repository.projection.JobReferences;
 
 @Mapper(componentModel = "spring")
 public interface JobMapper {
@@ -17,11 +18,12 @@ public interface JobMapper {
     @Mapping(target = "updatedAt", ignore = true)
     Job toEntity(JobRequest request);
 
-    @Mapping(source = "company.id", target = "companyId")
-    @Mapping(source = "company.name", target = "companyName")
-    @Mapping(source = "owner.id", target = "ownerId")
-    @Mapping(source = "owner.fullName", target = "ownerName")
-    JobResponse toResponse(Job entity);
+    @Mapping(source = "entity.id", target = "id")
+    @Mapping(source = "entity.company.id", target = "companyId")
+    @Mapping(source = "references.companyName", target = "companyName")
+    @Mapping(source = "entity.owner.id", target = "ownerId")
+    @Mapping(source = "references.ownerName", target = "ownerName")
+    JobResponse toResponse(Job entity, JobReferences references);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "company", ignore = true)
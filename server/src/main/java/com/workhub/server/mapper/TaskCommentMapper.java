@@ -6,6 +6,7 @@ import org.mapstruct.Mapping;
 import com.workhub.server.dto.request.TaskCommentRequest;
 import com.workhub.server.dto.response.TaskCommentResponse;
 import com.workhub.server.entity.TaskComment;
+import com.workhub.server.repository.projection.TaskCommentReferences;
 
 @Mapper(componentModel = "spring")
 public interface TaskCommentMapper {
@@ -20,5 +21,12 @@ public interface TaskCommentMapper {
     @Mapping(source = "user.id", target = "userId")
     @Mapping(source = "user.fullName", target = "userName")
     TaskCommentResponse toResponse(TaskComment entity);
+
+    @Mapping(source = "entity.id", target = "id")
+    @Mapping(source = "entity.task.id", target = "taskId")
+    @Mapping(source = "references.taskTitle", target = "taskTitle")
+    @Mapping(source = "entity.user.id", target = "userId")
+    @Mapping(source = "references.userName", target = "userName")
+    TaskCommentResponse toResponse(TaskComment entity, TaskCommentReferences references);
 }
 
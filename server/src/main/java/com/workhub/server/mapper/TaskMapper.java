@@ -7,6 +7,7 @@ import org.mapstruct.MappingTarget;
 import com.workhub.server.dto.request.TaskRequest;
 import com.workhub.server.dto.response.TaskResponse;
 import com.workhub.server.entity.Task;
+import com.workhub.server.repository.projection.TaskReferences;
 
 @Mapper(componentModel = "spring")
 public interface TaskMapper {
@@ -19,13 +20,14 @@ public interface TaskMapper {
     @Mapping(target = "updatedAt", ignore = true)
     Task toEntity(TaskRequest request);
 
-    @Mapping(source = "company.id", target = "companyId")
-    @Mapping(source = "company.name", target = "companyName")
-    @Mapping(source = "job.id", target = "jobId")
-    @Mapping(source = "job.title", target = "jobTitle")
-    @Mapping(source = "assignee.id", target = "assigneeId")
-    @Mapping(source = "assignee.fullName", target = "assigneeName")
-    TaskResponse toResponse(Task entity);
+    @Mapping(source = "entity.id", target = "id")
+    @Mapping(source = "entity.company.id", target = "companyId")
+    @Mapping(source = "references.companyName", target = "companyName")
+    @Mapping(source = "entity.job.id", target = "jobId")
+    @Mapping(source = "references.jobTitle", target = "jobTitle")
+    @Mapping(source = "entity.assignee.id", target = "assigneeId")
+    @Mapping(source = "references.assigneeName", target = "assigneeName")
+    TaskResponse toResponse(Task entity, TaskReferences references);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "company", ignore = true)
@@ -7,8 +7,9 @@ import org.mapstruct.MappingTarget;
 import com.workhub.server.dto.request.UserRequest;
 import com.workhub.server.dto.response.UserResponse;
 import com.workhub.server.entity.User;
+import com.workhub.server.service.ImageVariants;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = ImageVariants.class)
 public interface UserMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "passwordHash", ignore = true)
@@ -18,15 +19,19 @@ public interface UserMapper {
     @Mapping(source = "avatarUrl", target = "avatarUrl")
     @Mapping(source = "role", target = "role")
     @Mapping(source = "isActive", target = "isActive")
+    @Mapping(target = "avatarVariants", ignore = true)
     User toEntity(UserRequest request);
 
     @Mapping(target = "companyId", ignore = true)
     @Mapping(target = "companyName", ignore = true)
+    @Mapping(target = "avatarVariants",
+            expression = "java(ImageVariants.urls(entity.getAvatarUrl(), entity.getAvatarVariants()))")
     UserResponse toResponse(User entity);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "passwordHash", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "avatarVariants", ignore = true)
     void updateEntityFromRequest(UserRequest request, @MappingTarget User user);
 }
@@ -1,8 +1,16 @@
 package com.workhub.server.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.workhub.server.entity.Company;
@@ -10,5 +18,21 @@ import com.workhub.server.entity.Company;
 @Repository
 public interface CompanyRepository extends JpaRepository<Company, UUID> {
     boolean existsByName(String name);
-}
 
+    Slice<Company> findAllBy(Pageable pageable);
+
+    @Query("SELECT c FROM Company c WHERE (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))"
+            + " ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Company> findAllAfter(@Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") UUID id,
+                                Pageable pageable);
+
+    @Query("SELECT c.id FROM Company c WHERE c.id IN :ids")
+    Set<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Only attaches the variants while the company still has the logo they were made from
+    @Modifying
+    @Query("UPDATE Company c SET c.logoVariants = :variants WHERE c.id = :id AND c.logoUrl = :logoUrl")
+    int updateLogoVariants(@Param("id") UUID id, @Param("logoUrl") String logoUrl,
+            @Param("variants") String variants);
+}
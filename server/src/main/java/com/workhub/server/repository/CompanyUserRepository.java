@@ -1,31 +1,75 @@
 package com.workhub.server.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.workhub.server.entity.CompanyUser;
+import com.workhub.server.repository.projection.CompanyUserCount;
 
 @Repository
 public interface CompanyUserRepository extends JpaRepository<CompanyUser, UUID> {
     @Query("SELECT cu.user FROM CompanyUser cu WHERE cu.company.id = :companyId")
     List<com.workhub.server.entity.User> findUsersByCompanyId(@Param("companyId") UUID companyId);
 
+    // Ordered by join date so pages stay stable while members are added
+    @Query("SELECT cu.user FROM CompanyUser cu WHERE cu.company.id = :companyId ORDER BY cu.createdAt ASC, cu.id ASC")
+    Slice<com.workhub.server.entity.User> findUsersByCompanyId(@Param("companyId") UUID companyId, Pageable pageable);
+
+    // Members of several companies in one statement; callers group by company id
+    @Query("SELECT cu FROM CompanyUser cu JOIN FETCH cu.user WHERE cu.company.id IN :companyIds")
+    List<CompanyUser> findWithUsersByCompanyIdIn(@Param("companyIds") Collection<UUID> companyIds);
+
+    @Query("SELECT cu.company.id AS companyId, COUNT(cu) AS userCount FROM CompanyUser cu "
+            + "WHERE cu.company.id IN :companyIds GROUP BY cu.company.id")
+    List<CompanyUserCount> countByCompanyIdIn(@Param("companyIds") Collection<UUID> companyIds);
+
     @Query("SELECT cu FROM CompanyUser cu WHERE cu.user.id = :userId")
     List<CompanyUser> findByUserId(@Param("userId") UUID userId);
 
+    @Query("SELECT cu.company.id FROM CompanyUser cu WHERE cu.user.id = :userId")
+    List<UUID> findCompanyIdsByUserId(@Param("userId") UUID userId);
+
     @Query("SELECT COUNT(cu) FROM CompanyUser cu WHERE cu.company.id = :companyId")
     long countByCompanyId(@Param("companyId") UUID companyId);
 
-    void deleteByCompanyId(UUID companyId);
+    // Bulk deletes: one statement regardless of how many memberships exist
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CompanyUser cu WHERE cu.company.id = :companyId")
+    int deleteByCompanyId(@Param("companyId") UUID companyId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CompanyUser cu WHERE cu.user.id = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
 
     boolean existsByCompanyId(UUID companyId);
 
     @Query("SELECT COUNT(cu) > 0 FROM CompanyUser cu WHERE cu.company.id = :companyId AND cu.user.id = :userId")
     boolean existsByCompanyIdAndUserId(@Param("companyId") UUID companyId, @Param("userId") UUID userId);
-}
 
+    // Cursor mode seeks on the user's own (createdAt, id) so the cursor matches the returned items
+    @Query("SELECT u FROM CompanyUser cu JOIN cu.user u WHERE cu.company.id = :companyId"
+            + " AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id))"
+            + " ORDER BY u.createdAt DESC, u.id DESC")
+    Slice<com.workhub.server.entity.User> findUsersByCompanyIdAfter(@Param("companyId") UUID companyId,
+                                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                                   @Param("id") UUID id,
+                                                                   Pageable pageable);
+
+    // Chunked cascade deletes: select a bounded batch of ids, then delete exactly those
+    @Query("SELECT cu.id FROM CompanyUser cu WHERE cu.company.id = :companyId")
+    List<UUID> findIdsByCompanyId(@Param("companyId") UUID companyId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CompanyUser cu WHERE cu.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,36 @@
+package com.workhub.server.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.workhub.server.entity.FileDeletion;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface FileDeletionRepository extends JpaRepository<FileDeletion, UUID> {
+
+    // Due rows, locked with SKIP LOCKED so concurrent drainers on other instances claim different rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT fd FROM FileDeletion fd WHERE fd.nextAttemptAt <= :now ORDER BY fd.nextAttemptAt")
+    List<FileDeletion> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    boolean existsByObjectKey(String objectKey);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM FileDeletion fd WHERE fd.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+}
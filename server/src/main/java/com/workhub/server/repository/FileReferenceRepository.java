@@ -0,0 +1,46 @@
+package com.workhub.server.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.workhub.server.entity.FileReference;
+
+@Repository
+public interface FileReferenceRepository extends JpaRepository<FileReference, String> {
+
+    // Plain INSERT rather than save(): a concurrent first upload must fail on the key, not be merged over
+    @Modifying
+    @Query(value = "INSERT INTO file_references (object_key, ref_count, size, content_type, created_at)"
+            + " VALUES (:key, 1, :size, :contentType, :createdAt)", nativeQuery = true)
+    int insertFirstReference(@Param("key") String key,
+                             @Param("size") long size,
+                             @Param("contentType") String contentType,
+                             @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("UPDATE FileReference r SET r.refCount = r.refCount + 1 WHERE r.objectKey = :key")
+    int incrementRefCount(@Param("key") String key);
+
+    @Modifying
+    @Query("UPDATE FileReference r SET r.refCount = r.refCount - 1 WHERE r.objectKey = :key AND r.refCount > 0")
+    int decrementRefCount(@Param("key") String key);
+
+    @Query("SELECT r.refCount FROM FileReference r WHERE r.objectKey = :key")
+    Optional<Integer> findRefCount(@Param("key") String key);
+
+    @Query("SELECT r.objectKey FROM FileReference r WHERE r.objectKey IN :keys AND r.refCount > 0")
+    Set<String> findReferencedKeys(@Param("keys") Collection<String> keys);
+
+    // The DELETE locks the rows it removes, so an increment racing it waits and then finds no row
+    @Modifying
+    @Query("DELETE FROM FileReference r WHERE r.objectKey IN :keys AND r.refCount = 0")
+    int deleteUnreferenced(@Param("keys") Collection<String> keys);
+}
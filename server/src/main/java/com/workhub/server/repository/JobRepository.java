@@ -1,36 +1,134 @@
 package com.workhub.server.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.workhub.server.constant.JobStatus;
+import com.workhub.server.dto.response.JobResponse;
 import com.workhub.server.entity.Job;
+import com.workhub.server.repository.projection.JobReferences;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, UUID> {
-    
-    @Query("SELECT j FROM Job j WHERE j.company.id = :companyId")
-    Page<Job> findByCompanyId(@Param("companyId") UUID companyId, Pageable pageable);
-    
-    @Query("SELECT j FROM Job j WHERE j.owner.id = :ownerId")
-    Page<Job> findByOwnerId(@Param("ownerId") UUID ownerId, Pageable pageable);
-    
-    @Query("SELECT j FROM Job j WHERE j.status = :status")
-    Page<Job> findByStatus(@Param("status") JobStatus status, Pageable pageable);
-    
-    @Query("SELECT j FROM Job j WHERE j.company.id = :companyId AND j.status = :status")
-    Page<Job> findByCompanyIdAndStatus(@Param("companyId") UUID companyId, 
-                                        @Param("status") JobStatus status, 
-                                        Pageable pageable);
-    
+
+    // Company and owner names are joined in the same statement instead of lazily per row
+    String JOB_RESPONSE_SELECT = "SELECT new com.workhub.server.dto.response.JobResponse("
+            + "j.id, c.id, c.name, o.id, o.fullName, j.title, j.description, j.status, j.priority, "
+            + "j.deadline, j.createdAt, j.updatedAt) "
+            + "FROM Job j JOIN j.company c JOIN j.owner o";
+
+    @Query(JOB_RESPONSE_SELECT + " WHERE j.id = :id")
+    Optional<JobResponse> findResponseById(@Param("id") UUID id);
+
+    @Query(JOB_RESPONSE_SELECT)
+    Slice<JobResponse> findAllResponses(Pageable pageable);
+
+    @Query(JOB_RESPONSE_SELECT + " WHERE c.id = :companyId")
+    Slice<JobResponse> findByCompanyId(@Param("companyId") UUID companyId, Pageable pageable);
+
+    @Query(JOB_RESPONSE_SELECT + " WHERE o.id = :ownerId")
+    Slice<JobResponse> findByOwnerId(@Param("ownerId") UUID ownerId, Pageable pageable);
+
+    @Query(JOB_RESPONSE_SELECT + " WHERE j.status = :status")
+    Slice<JobResponse> findByStatus(@Param("status") JobStatus status, Pageable pageable);
+
+    @Query(JOB_RESPONSE_SELECT + " WHERE c.id = :companyId AND j.status = :status")
+    Slice<JobResponse> findByCompanyIdAndStatus(@Param("companyId") UUID companyId,
+                                                @Param("status") JobStatus status,
+                                                Pageable pageable);
+
     @Query("SELECT COUNT(j) FROM Job j WHERE j.company.id = :companyId")
     long countByCompanyId(@Param("companyId") UUID companyId);
-}
 
+    // Cursor mode: seek past (createdAt, id) instead of skipping OFFSET rows, and never count
+    String JOB_SEEK = " (j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id))"
+            + " ORDER BY j.createdAt DESC, j.id DESC";
+
+    @Query(JOB_RESPONSE_SELECT + " WHERE" + JOB_SEEK)
+    Slice<JobResponse> findAllResponsesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") UUID id,
+                                             Pageable pageable);
+
+    @Query(JOB_RESPONSE_SELECT + " WHERE c.id = :companyId AND" + JOB_SEEK)
+    Slice<JobResponse> findByCompanyIdAfter(@Param("companyId") UUID companyId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") UUID id,
+                                            Pageable pageable);
+
+    @Query(JOB_RESPONSE_SELECT + " WHERE o.id = :ownerId AND" + JOB_SEEK)
+    Slice<JobResponse> findByOwnerIdAfter(@Param("ownerId") UUID ownerId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") UUID id,
+                                          Pageable pageable);
 
+    @Query(JOB_RESPONSE_SELECT + " WHERE j.status = :status AND" + JOB_SEEK)
+    Slice<JobResponse> findByStatusAfter(@Param("status") JobStatus status,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") UUID id,
+                                         Pageable pageable);
+
+    @Query(JOB_RESPONSE_SELECT + " WHERE c.id = :companyId AND j.status = :status AND" + JOB_SEEK)
+    Slice<JobResponse> findByCompanyIdAndStatusAfter(@Param("companyId") UUID companyId,
+                                                     @Param("status") JobStatus status,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") UUID id,
+                                                     Pageable pageable);
+
+    @Query("SELECT COUNT(j) FROM Job j WHERE j.owner.id = :ownerId")
+    long countByOwnerId(@Param("ownerId") UUID ownerId);
+
+    @Query("SELECT COUNT(j) FROM Job j WHERE j.status = :status")
+    long countByStatus(@Param("status") JobStatus status);
+
+    @Query("SELECT COUNT(j) FROM Job j WHERE j.company.id = :companyId AND j.status = :status")
+    long countByCompanyIdAndStatus(@Param("companyId") UUID companyId, @Param("status") JobStatus status);
+
+    @Query("SELECT j.id FROM Job j WHERE j.id IN :ids")
+    Set<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Set-based status changes; rows already in the target status are left alone so updatedAt stays accurate
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Job j SET j.status = :status, j.updatedAt = :updatedAt"
+            + " WHERE j.id IN :ids AND j.status <> :status")
+    int updateStatusByIdIn(@Param("ids") Collection<UUID> ids,
+                           @Param("status") JobStatus status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Job j SET j.status = :status, j.updatedAt = :updatedAt"
+            + " WHERE j.company.id = :companyId AND j.status <> :status"
+            + " AND (:currentStatus IS NULL OR j.status = :currentStatus)")
+    int updateStatusByCompanyId(@Param("companyId") UUID companyId,
+                                @Param("currentStatus") JobStatus currentStatus,
+                                @Param("status") JobStatus status,
+                                @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT c.name AS companyName, o.fullName AS ownerName"
+            + " FROM Company c, User o WHERE c.id = :companyId AND o.id = :ownerId")
+    Optional<JobReferences> findReferences(@Param("companyId") UUID companyId, @Param("ownerId") UUID ownerId);
+
+    // Single DELETE without loading the row first; returns 0 when the id does not exist
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Job j WHERE j.id = :id")
+    int deleteOneById(@Param("id") UUID id);
+
+    // Chunked cascade deletes: select a bounded batch of ids, then delete exactly those
+    @Query("SELECT j.id FROM Job j WHERE j.company.id = :companyId")
+    List<UUID> findIdsByCompanyId(@Param("companyId") UUID companyId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Job j WHERE j.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,18 @@
+package com.workhub.server.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.workhub.server.entity.PendingUpload;
+
+@Repository
+public interface PendingUploadRepository extends JpaRepository<PendingUpload, String> {
+
+    // Returns 0 when a concurrent completion removed the row first; a cached row must not outlive it
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PendingUpload pu WHERE pu.objectKey = :key")
+    int deleteByObjectKey(@Param("key") String key);
+}
@@ -1,26 +1,81 @@
 package com.workhub.server.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.workhub.server.entity.TaskComment;
+import com.workhub.server.repository.projection.TaskCommentReferences;
 
 @Repository
 public interface TaskCommentRepository extends JpaRepository<TaskComment, UUID> {
     
     @Query("SELECT tc FROM TaskComment tc WHERE tc.task.id = :taskId ORDER BY tc.createdAt DESC")
-    Page<TaskComment> findByTaskId(@Param("taskId") UUID taskId, Pageable pageable);
+    Slice<TaskComment> findByTaskId(@Param("taskId") UUID taskId, Pageable pageable);
     
     @Query("SELECT tc FROM TaskComment tc WHERE tc.user.id = :userId ORDER BY tc.createdAt DESC")
-    Page<TaskComment> findByUserId(@Param("userId") UUID userId, Pageable pageable);
+    Slice<TaskComment> findByUserId(@Param("userId") UUID userId, Pageable pageable);
     
     @Query("SELECT COUNT(tc) FROM TaskComment tc WHERE tc.task.id = :taskId")
     long countByTaskId(@Param("taskId") UUID taskId);
-}
 
+    // Cursor mode: seek past (createdAt, id) instead of skipping OFFSET rows, and never count
+    String COMMENT_SEEK = " (tc.createdAt < :createdAt OR (tc.createdAt = :createdAt AND tc.id < :id))"
+            + " ORDER BY tc.createdAt DESC, tc.id DESC";
+
+    @Query("SELECT tc FROM TaskComment tc WHERE" + COMMENT_SEEK)
+    Slice<TaskComment> findAllAfter(@Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") UUID id,
+                                    Pageable pageable);
+
+    @Query("SELECT tc FROM TaskComment tc WHERE tc.task.id = :taskId AND" + COMMENT_SEEK)
+    Slice<TaskComment> findByTaskIdAfter(@Param("taskId") UUID taskId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") UUID id,
+                                         Pageable pageable);
+
+    @Query("SELECT tc FROM TaskComment tc WHERE tc.user.id = :userId AND" + COMMENT_SEEK)
+    Slice<TaskComment> findByUserIdAfter(@Param("userId") UUID userId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") UUID id,
+                                         Pageable pageable);
+
+    Slice<TaskComment> findAllBy(Pageable pageable);
+
+    @Query("SELECT COUNT(tc) FROM TaskComment tc WHERE tc.user.id = :userId")
+    long countByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT t.title AS taskTitle, u.fullName AS userName"
+            + " FROM Task t, User u WHERE t.id = :taskId AND u.id = :userId")
+    Optional<TaskCommentReferences> findReferences(@Param("taskId") UUID taskId, @Param("userId") UUID userId);
+
+    // Single DELETE without loading the row first; returns 0 when the id does not exist
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskComment tc WHERE tc.id = :id")
+    int deleteOneById(@Param("id") UUID id);
+
+    // Chunked cascade deletes: select a bounded batch of ids, then delete exactly those
+    @Query("SELECT tc.id FROM TaskComment tc WHERE tc.task.job.id = :jobId")
+    List<UUID> findIdsByJobId(@Param("jobId") UUID jobId, Pageable pageable);
+
+    @Query("SELECT tc.id FROM TaskComment tc WHERE tc.task.company.id = :companyId")
+    List<UUID> findIdsByCompanyId(@Param("companyId") UUID companyId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskComment tc WHERE tc.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskComment tc WHERE tc.task.id IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<UUID> taskIds);
+}
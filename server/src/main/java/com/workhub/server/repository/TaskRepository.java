@@ -1,43 +1,167 @@
 package com.workhub.server.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.workhub.server.constant.TaskStatus;
+import com.workhub.server.dto.response.TaskResponse;
 import com.workhub.server.entity.Task;
+import com.workhub.server.repository.projection.TaskReferences;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, UUID> {
-    
-    @Query("SELECT t FROM Task t WHERE t.company.id = :companyId")
-    Page<Task> findByCompanyId(@Param("companyId") UUID companyId, Pageable pageable);
-    
-    @Query("SELECT t FROM Task t WHERE t.job.id = :jobId")
-    Page<Task> findByJobId(@Param("jobId") UUID jobId, Pageable pageable);
-    
-    @Query("SELECT t FROM Task t WHERE t.assignee.id = :assigneeId")
-    Page<Task> findByAssigneeId(@Param("assigneeId") UUID assigneeId, Pageable pageable);
-    
-    @Query("SELECT t FROM Task t WHERE t.status = :status")
-    Page<Task> findByStatus(@Param("status") TaskStatus status, Pageable pageable);
-    
-    @Query("SELECT t FROM Task t WHERE t.job.id = :jobId AND t.status = :status")
-    Page<Task> findByJobIdAndStatus(@Param("jobId") UUID jobId, 
-                                     @Param("status") TaskStatus status, 
-                                     Pageable pageable);
-    
-    @Query("SELECT t FROM Task t WHERE t.assignee.id = :assigneeId AND t.status = :status")
-    Page<Task> findByAssigneeIdAndStatus(@Param("assigneeId") UUID assigneeId, 
-                                          @Param("status") TaskStatus status, 
-                                          Pageable pageable);
-    
+
+    // List queries project straight into TaskResponse so company, job and assignee names
+    // come from the same statement instead of one lazy load per row
+    String TASK_RESPONSE_SELECT = "SELECT new com.workhub.server.dto.response.TaskResponse("
+            + "t.id, c.id, c.name, j.id, j.title, a.id, a.fullName, t.title, t.description, t.status, "
+            + "t.startDate, t.dueDate, t.createdAt, t.updatedAt) "
+            + "FROM Task t JOIN t.company c JOIN t.job j JOIN t.assignee a";
+
+    @Query(TASK_RESPONSE_SELECT + " WHERE t.id = :id")
+    Optional<TaskResponse> findResponseById(@Param("id") UUID id);
+
+    @Query(TASK_RESPONSE_SELECT)
+    Slice<TaskResponse> findAllResponses(Pageable pageable);
+
+    @Query(TASK_RESPONSE_SELECT + " WHERE c.id = :companyId")
+    Slice<TaskResponse> findByCompanyId(@Param("companyId") UUID companyId, Pageable pageable);
+
+    @Query(TASK_RESPONSE_SELECT + " WHERE j.id = :jobId")
+    Slice<TaskResponse> findByJobId(@Param("jobId") UUID jobId, Pageable pageable);
+
+    @Query(TASK_RESPONSE_SELECT + " WHERE a.id = :assigneeId")
+    Slice<TaskResponse> findByAssigneeId(@Param("assigneeId") UUID assigneeId, Pageable pageable);
+
+    @Query(TASK_RESPONSE_SELECT + " WHERE t.status = :status")
+    Slice<TaskResponse> findByStatus(@Param("status") TaskStatus status, Pageable pageable);
+
+    @Query(TASK_RESPONSE_SELECT + " WHERE j.id = :jobId AND t.status = :status")
+    Slice<TaskResponse> findByJobIdAndStatus(@Param("jobId") UUID jobId,
+                                             @Param("status") TaskStatus status,
+                                             Pageable pageable);
+
+    @Query(TASK_RESPONSE_SELECT + " WHERE a.id = :assigneeId AND t.status = :status")
+    Slice<TaskResponse> findByAssigneeIdAndStatus(@Param("assigneeId") UUID assigneeId,
+                                                  @Param("status") TaskStatus status,
+                                                  Pageable pageable);
+
     @Query("SELECT COUNT(t) FROM Task t WHERE t.job.id = :jobId")
     long countByJobId(@Param("jobId") UUID jobId);
-}
 
+    // Cursor mode: seek past (createdAt, id) instead of skipping OFFSET rows, and never count
+    String TASK_SEEK = " (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id))"
+            + " ORDER BY t.createdAt DESC, t.id DESC";
+
+    @Query(TASK_RESPONSE_SELECT + " WHERE" + TASK_SEEK)
+    Slice<TaskResponse> findAllResponsesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") UUID id,
+                                              Pageable pageable);
+
+    @Query(TASK_RESPONSE_SELECT + " WHERE c.id = :companyId AND" + TASK_SEEK)
+    Slice<TaskResponse> findByCompanyIdAfter(@Param("companyId") UUID companyId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") UUID id,
+                                             Pageable pageable);
+
+    @Query(TASK_RESPONSE_SELECT + " WHERE j.id = :jobId AND" + TASK_SEEK)
+    Slice<TaskResponse> findByJobIdAfter(@Param("jobId") UUID jobId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") UUID id,
+                                         Pageable pageable);
+
+    @Query(TASK_RESPONSE_SELECT + " WHERE a.id = :assigneeId AND" + TASK_SEEK)
+    Slice<TaskResponse> findByAssigneeIdAfter(@Param("assigneeId") UUID assigneeId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") UUID id,
+                                              Pageable pageable);
+
+    @Query(TASK_RESPONSE_SELECT + " WHERE t.status = :status AND" + TASK_SEEK)
+    Slice<TaskResponse> findByStatusAfter(@Param("status") TaskStatus status,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") UUID id,
+                                          Pageable pageable);
+
+    @Query(TASK_RESPONSE_SELECT + " WHERE j.id = :jobId AND t.status = :status AND" + TASK_SEEK)
+    Slice<TaskResponse> findByJobIdAndStatusAfter(@Param("jobId") UUID jobId,
+                                                  @Param("status") TaskStatus status,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") UUID id,
+                                                  Pageable pageable);
+
+    @Query(TASK_RESPONSE_SELECT + " WHERE a.id = :assigneeId AND t.status = :status AND" + TASK_SEEK)
+    Slice<TaskResponse> findByAssigneeIdAndStatusAfter(@Param("assigneeId") UUID assigneeId,
+                                                       @Param("status") TaskStatus status,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") UUID id,
+                                                       Pageable pageable);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.company.id = :companyId")
+    long countByCompanyId(@Param("companyId") UUID companyId);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.assignee.id = :assigneeId")
+    long countByAssigneeId(@Param("assigneeId") UUID assigneeId);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.status = :status")
+    long countByStatus(@Param("status") TaskStatus status);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.job.id = :jobId AND t.status = :status")
+    long countByJobIdAndStatus(@Param("jobId") UUID jobId, @Param("status") TaskStatus status);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.assignee.id = :assigneeId AND t.status = :status")
+    long countByAssigneeIdAndStatus(@Param("assigneeId") UUID assigneeId, @Param("status") TaskStatus status);
+
+    // Set-based status changes; rows already in the target status are left alone so updatedAt stays accurate
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt"
+            + " WHERE t.id IN :ids AND t.status <> :status")
+    int updateStatusByIdIn(@Param("ids") Collection<UUID> ids,
+                           @Param("status") TaskStatus status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt"
+            + " WHERE t.job.id = :jobId AND t.status <> :status"
+            + " AND (:currentStatus IS NULL OR t.status = :currentStatus)")
+    int updateStatusByJobId(@Param("jobId") UUID jobId,
+                            @Param("currentStatus") TaskStatus currentStatus,
+                            @Param("status") TaskStatus status,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT c.name AS companyName, j.title AS jobTitle, a.fullName AS assigneeName"
+            + " FROM Company c, Job j, User a WHERE c.id = :companyId AND j.id = :jobId AND a.id = :assigneeId")
+    Optional<TaskReferences> findReferences(@Param("companyId") UUID companyId,
+                                            @Param("jobId") UUID jobId,
+                                            @Param("assigneeId") UUID assigneeId);
+
+    // Single DELETE without loading the row first; returns 0 when the id does not exist
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id = :id")
+    int deleteOneById(@Param("id") UUID id);
+
+    // Chunked cascade deletes: select a bounded batch of ids, then delete exactly those
+    @Query("SELECT t.id FROM Task t WHERE t.job.id = :jobId")
+    List<UUID> findIdsByJobId(@Param("jobId") UUID jobId, Pageable pageable);
+
+    @Query("SELECT t.id FROM Task t WHERE t.company.id = :companyId")
+    List<UUID> findIdsByCompanyId(@Param("companyId") UUID companyId, Pageable pageable);
+
+    // Tasks filed under another company but attached to one of this company's jobs
+    @Query("SELECT t.id FROM Task t JOIN t.job j WHERE j.company.id = :companyId")
+    List<UUID> findIdsByJobCompanyId(@Param("companyId") UUID companyId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -1,20 +1,50 @@
 package com.workhub.server.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.workhub.server.entity.User;
+import com.workhub.server.repository.projection.UserAvatar;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByEmail(String email);
     
     Optional<User> findByEmail(String email);
+
+    Slice<User> findAllBy(Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id))"
+            + " ORDER BY u.createdAt DESC, u.id DESC")
+    Slice<User> findAllAfter(@Param("createdAt") LocalDateTime createdAt,
+                             @Param("id") UUID id,
+                             Pageable pageable);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    Set<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT u.avatarUrl AS avatarUrl, u.avatarVariants AS avatarVariants FROM User u WHERE u.id = :id")
+    Optional<UserAvatar> findAvatarById(@Param("id") UUID id);
+
+    // Single DELETE without loading the row first; returns 0 when the id does not exist
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM User u WHERE u.id = :id")
+    int deleteOneById(@Param("id") UUID id);
+
+    // Only attaches the variants while the user still has the avatar they were made from
+    @Modifying
+    @Query("UPDATE User u SET u.avatarVariants = :variants WHERE u.id = :id AND u.avatarUrl = :avatarUrl")
+    int updateAvatarVariants(@Param("id") UUID id, @Param("avatarUrl") String avatarUrl,
+            @Param("variants") String variants);
 }
@@ -0,0 +1,9 @@
+package com.workhub.server.repository.projection;
+
+import java.util.UUID;
+
+public interface CompanyUserCount {
+    UUID getCompanyId();
+
+    long getUserCount();
+}
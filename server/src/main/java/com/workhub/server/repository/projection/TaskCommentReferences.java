@@ -0,0 +1,10 @@
+package com.workhub.server.repository.projection;
+
+/**
+ * Display names of the rows a comment points at, loaded in one query while checking they exist.
+ */
+public interface TaskCommentReferences {
+    String getTaskTitle();
+
+    String getUserName();
+}
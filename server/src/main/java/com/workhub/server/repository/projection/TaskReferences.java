@@ -0,0 +1,17 @@
+package com.workhub.server.repository.projection;
+
+/**
+ * Display names of the rows a task points at, loaded in one query while checking they exist.
+ * <p>
+ * The {@code findReferences} queries behind this and the other {@code *References} projections
+ * return empty when any referenced row is missing, which replaces a lookup per association. The
+ * mappers then read only ids from the entity's associations, which may be uninitialized proxies,
+ * and take the names from the projection.
+ */
+public interface TaskReferences {
+    String getCompanyName();
+
+    String getJobTitle();
+
+    String getAssigneeName();
+}
@@ -0,0 +1,7 @@
+package com.workhub.server.repository.projection;
+
+public interface UserAvatar {
+    String getAvatarUrl();
+
+    String getAvatarVariants();
+}
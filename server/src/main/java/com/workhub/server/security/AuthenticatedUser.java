@@ -0,0 +1,83 @@
+package com.workhub.server.security;
+
+import com.workhub.server.constant.UserRole;
+import com.workhub.server.entity.User;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable principal shared by the database-backed and the stateless (claims-only) authentication paths.
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails {
+
+    public static final String CLAIM_USER_ID = "userId";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_COMPANY_ID = "companyId";
+
+    private final UUID userId;
+    private final String email;
+    private final String password;
+    private final UserRole role;
+    private final UUID companyId;
+    private final boolean enabled;
+    private final List<GrantedAuthority> authorities;
+
+    private AuthenticatedUser(UUID userId, String email, String password, UserRole role, UUID companyId,
+                              boolean enabled) {
+        this.userId = userId;
+        this.email = email;
+        this.password = password;
+        this.role = role;
+        this.companyId = companyId;
+        this.enabled = enabled;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    public static AuthenticatedUser fromUser(User user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getPasswordHash(),
+                user.getRole(),
+                null,
+                Boolean.TRUE.equals(user.getIsActive()));
+    }
+
+    /**
+     * Build a principal from already verified token claims, without touching the database.
+     */
+    public static AuthenticatedUser fromClaims(Claims claims) {
+        String userId = claims.get(CLAIM_USER_ID, String.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (userId == null || role == null) {
+            throw new IllegalArgumentException("Token does not carry the claims required for stateless authentication");
+        }
+        String companyId = claims.get(CLAIM_COMPANY_ID, String.class);
+
+        return new AuthenticatedUser(
+                UUID.fromString(userId),
+                claims.getSubject(),
+                null,
+                UserRole.valueOf(role),
+                companyId != null ? UUID.fromString(companyId) : null,
+                true);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -1,10 +1,12 @@
 package com.workhub.server.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,6 +24,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    // Opt-in: build the principal from verified claims instead of loading the user on every request
+    @Value("${jwt.stateless:false}")
+    private boolean statelessAuthentication;
 
     @Override
     protected void doFilterInternal(
@@ -31,6 +38,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
+        final Claims claims;
         final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -40,12 +48,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         jwt = authHeader.substring(7);
         try {
-            userEmail = jwtTokenProvider.extractUsername(jwt);
+            // Verify once and reuse the claims for every later check in this request
+            claims = jwtTokenProvider.parseToken(jwt);
+            userEmail = claims.getSubject();
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                UserDetails userDetails = statelessAuthentication
+                        ? AuthenticatedUser.fromClaims(claims)
+                        : this.userDetailsService.loadUserByUsername(userEmail);
 
-                if (jwtTokenProvider.validateToken(jwt, userDetails)) {
+                if (jwtTokenProvider.validateToken(claims, userDetails) && !isRevoked(userDetails, claims)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -62,5 +74,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
 
+    private boolean isRevoked(UserDetails userDetails, Claims claims) {
+        return userDetails instanceof AuthenticatedUser user
+                && tokenRevocationRegistry.isRevoked(user.getUserId(), claims.getIssuedAt());
+    }
+}
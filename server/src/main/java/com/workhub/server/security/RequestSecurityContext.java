@@ -0,0 +1,126 @@
+package com.workhub.server.security;
+
+import com.workhub.server.constant.UserRole;
+import com.workhub.server.entity.User;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Per-request snapshot of the caller: email, role set, and lazily resolved user row and
+ * company memberships. Each lookup runs at most once per request; repeats are counted as saved queries.
+ */
+class RequestSecurityContext {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final Authentication authentication;
+    private final String email;
+    private final UUID principalUserId;
+    private final UUID principalCompanyId;
+    private final Set<UserRole> roles;
+    private final int roleMask;
+
+    private Optional<User> user;
+    private List<UUID> companyIds;
+    private int queriesSaved;
+
+    RequestSecurityContext(Authentication authentication, String email) {
+        this.authentication = authentication;
+        this.email = email;
+        AuthenticatedUser principal = authentication.getPrincipal() instanceof AuthenticatedUser authenticated
+                ? authenticated
+                : null;
+        this.principalUserId = principal != null ? principal.getUserId() : null;
+        this.principalCompanyId = principal != null ? principal.getCompanyId() : null;
+        EnumSet<UserRole> resolvedRoles = resolveRoles(authentication);
+        this.roles = Collections.unmodifiableSet(resolvedRoles);
+        int mask = 0;
+        for (UserRole role : resolvedRoles) {
+            mask |= role.mask();
+        }
+        this.roleMask = mask;
+    }
+
+    boolean belongsTo(Authentication current) {
+        return authentication == current;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    Set<UserRole> getRoles() {
+        return roles;
+    }
+
+    int getRoleMask() {
+        return roleMask;
+    }
+
+    Optional<User> getUser(Supplier<Optional<User>> loader) {
+        if (user == null) {
+            user = loader.get();
+        } else {
+            queriesSaved++;
+        }
+        return user;
+    }
+
+    Optional<UUID> getUserId(Supplier<Optional<User>> loader) {
+        if (principalUserId != null) {
+            // The principal already carries the id, so no users lookup is needed at all
+            queriesSaved++;
+            return Optional.of(principalUserId);
+        }
+        return getUser(loader).map(User::getId);
+    }
+
+    /**
+     * Company carried by a stateless token, or null when the principal does not have one.
+     */
+    UUID getPrincipalCompanyId() {
+        return principalCompanyId;
+    }
+
+    List<UUID> getCompanyIds(UUID userId, Function<UUID, List<UUID>> loader) {
+        if (companyIds == null) {
+            companyIds = List.copyOf(loader.apply(userId));
+        } else {
+            queriesSaved++;
+        }
+        return companyIds;
+    }
+
+    int getQueriesSaved() {
+        return queriesSaved;
+    }
+
+    private static EnumSet<UserRole> resolveRoles(Authentication authentication) {
+        EnumSet<UserRole> resolved = EnumSet.noneOf(UserRole.class);
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            resolved.add(principal.getRole());
+            return resolved;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name == null || !name.startsWith(ROLE_PREFIX)) {
+                continue;
+            }
+            try {
+                resolved.add(UserRole.valueOf(name.substring(ROLE_PREFIX.length())));
+            } catch (IllegalArgumentException ignored) {
+                // Not one of our roles
+            }
+        }
+        return resolved;
+    }
+}
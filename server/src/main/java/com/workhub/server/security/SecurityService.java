@@ -4,79 +4,150 @@ import com.workhub.server.constant.UserRole;
 import com.workhub.server.entity.User;
 import com.workhub.server.repository.CompanyUserRepository;
 import com.workhub.server.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Current-caller lookups. Results are memoized in a {@link RequestSecurityContext} stored on the
+ * current request, so repeated checks within one request do not repeat queries.
+ * No class-level transaction: role checks must not borrow a connection.
+ */
 @Service("securityService")
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class SecurityService {
 
+    private static final String CONTEXT_ATTRIBUTE = RequestSecurityContext.class.getName();
+
     private final UserRepository userRepository;
     private final CompanyUserRepository companyUserRepository;
+    private final MeterRegistry meterRegistry;
+
+    private DistributionSummary queriesSavedSummary;
+
+    @PostConstruct
+    void init() {
+        this.queriesSavedSummary = DistributionSummary.builder("security.context.queries.saved")
+                .description("Current-user queries served from the request-scoped security context")
+                .register(meterRegistry);
+    }
 
     public Optional<User> getCurrentUser() {
-        String email = getCurrentUserEmail();
-        if (!StringUtils.hasText(email)) {
+        RequestSecurityContext context = currentContext();
+        if (context == null) {
             return Optional.empty();
         }
-        return userRepository.findByEmail(email);
+        return context.getUser(() -> userRepository.findByEmail(context.getEmail()));
     }
 
     public Optional<UUID> getCurrentUserId() {
-        return getCurrentUser().map(User::getId);
+        RequestSecurityContext context = currentContext();
+        if (context == null) {
+            return Optional.empty();
+        }
+        return context.getUserId(() -> userRepository.findByEmail(context.getEmail()));
     }
 
     public Optional<UUID> getCurrentCompanyId() {
-        Optional<User> currentUser = getCurrentUser();
-        if (currentUser.isEmpty()) {
-            return Optional.empty();
+        RequestSecurityContext context = currentContext();
+        if (context != null && context.getPrincipalCompanyId() != null) {
+            // Stateless tokens name the caller's company, so no membership query is needed
+            return Optional.of(context.getPrincipalCompanyId());
         }
         // Get the first company for the user (can be extended to support primary company)
-        List<com.workhub.server.entity.CompanyUser> companyUsers = 
-            companyUserRepository.findByUserId(currentUser.get().getId());
-        if (companyUsers.isEmpty()) {
-            return Optional.empty();
+        List<UUID> companyIds = getCurrentCompanyIds();
+        return companyIds.isEmpty() ? Optional.empty() : Optional.of(companyIds.get(0));
+    }
+
+    private List<UUID> getCurrentCompanyIds() {
+        RequestSecurityContext context = currentContext();
+        if (context == null) {
+            return List.of();
         }
-        return Optional.of(companyUsers.get(0).getCompany().getId());
+        return getCurrentUserId()
+                .map(userId -> context.getCompanyIds(userId, companyUserRepository::findCompanyIdsByUserId))
+                .orElse(List.of());
     }
 
     public boolean hasRole(UserRole role) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            return false;
-        }
-        return authentication.getAuthorities().stream()
-                .anyMatch(authority -> authority.getAuthority().equals("ROLE_" + role.name()));
+        return (getCurrentRoleMask() & role.mask()) != 0;
     }
 
     public boolean hasAnyRole(UserRole... roles) {
         if (roles == null || roles.length == 0) {
             return false;
         }
-        return Arrays.stream(roles).anyMatch(this::hasRole);
+        int callerMask = getCurrentRoleMask();
+        for (UserRole role : roles) {
+            if ((callerMask & role.mask()) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Set<UserRole> getCurrentRoles() {
+        RequestSecurityContext context = currentContext();
+        return context != null ? context.getRoles() : Set.of();
+    }
+
+    /**
+     * Caller's roles as a bitmask of {@link UserRole#mask()} flags, 0 when unauthenticated.
+     */
+    public int getCurrentRoleMask() {
+        RequestSecurityContext context = currentContext();
+        return context != null ? context.getRoleMask() : 0;
     }
 
     public boolean isCompanyMember(UUID companyId) {
         if (companyId == null) {
             return false;
         }
+        // Membership means the caller's current company, as resolved by getCurrentCompanyId()
         return getCurrentCompanyId()
                 .map(companyId::equals)
                 .orElse(false);
     }
 
-    private String getCurrentUserEmail() {
+    private RequestSecurityContext currentContext() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String email = getCurrentUserEmail(authentication);
+        if (!StringUtils.hasText(email)) {
+            return null;
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            // Outside a web request (e.g. async work): nothing to share the lookups with
+            return new RequestSecurityContext(authentication, email);
+        }
+
+        Object cached = attributes.getAttribute(CONTEXT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof RequestSecurityContext context && context.belongsTo(authentication)) {
+            return context;
+        }
+
+        RequestSecurityContext context = new RequestSecurityContext(authentication, email);
+        attributes.setAttribute(CONTEXT_ATTRIBUTE, context, RequestAttributes.SCOPE_REQUEST);
+        attributes.registerDestructionCallback(CONTEXT_ATTRIBUTE,
+                () -> queriesSavedSummary.record(context.getQueriesSaved()),
+                RequestAttributes.SCOPE_REQUEST);
+        return context;
+    }
+
+    private String getCurrentUserEmail(Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated()) {
             return null;
         }
@@ -90,5 +161,3 @@ public class SecurityService {
         return null;
     }
 }
-
-
@@ -0,0 +1,67 @@
+package com.workhub.server.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory record of users whose previously issued tokens must no longer be accepted
+ * (deactivated, deleted, or email, password, role or company changed). Checked on every request
+ * without a database query.
+ * Entries are dropped once every token issued before the revocation has expired on its own.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private final Map<UUID, Instant> revokedBefore = new ConcurrentHashMap<>();
+
+    @Value("${jwt.expiration:86400000}")
+    private long jwtExpirationMs;
+
+    /**
+     * Inside a transaction the revocation is recorded after commit: a token issued from the old row
+     * while the change is still uncommitted is revoked too, and nothing is revoked on rollback.
+     */
+    public void revokeAllTokens(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revokeNow(userId);
+                }
+            });
+        } else {
+            revokeNow(userId);
+        }
+    }
+
+    public boolean isRevoked(UUID userId, Date issuedAt) {
+        Instant revokedAt = revokedBefore.get(userId);
+        if (revokedAt == null) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.toInstant().isBefore(revokedAt);
+    }
+
+    private void revokeNow(UUID userId) {
+        purgeExpired();
+        // iat has second precision; a token issued later in the revocation's second must still be accepted
+        revokedBefore.put(userId, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    void purgeExpired() {
+        Instant cutoff = Instant.now().minusMillis(jwtExpirationMs);
+        revokedBefore.values().removeIf(revokedAt -> revokedAt.isBefore(cutoff));
+    }
+}
@@ -0,0 +1,87 @@
+package com.workhub.server.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded, expiring cache of database-backed principals keyed by email.
+ * Hit, miss and eviction counts are published as the "userDetails" cache metrics.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCache {
+
+    private static final String CACHE_NAME = "userDetails";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.user-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.user-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${security.user-cache.ttl:60s}")
+    private Duration ttl;
+
+    private Cache<String, AuthenticatedUser> cache;
+
+    @PostConstruct
+    void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public AuthenticatedUser get(String email, Function<String, AuthenticatedUser> loader) {
+        if (!enabled) {
+            return loader.apply(email);
+        }
+        return cache.get(email, loader);
+    }
+
+    /**
+     * Evict now and again after the surrounding transaction commits, so a concurrent
+     * request cannot re-cache the row as it was before the change.
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        runNowAndAfterCommit(() -> cache.invalidate(email));
+    }
+
+    public void evictUser(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        runNowAndAfterCommit(() -> cache.asMap().values().removeIf(user -> userId.equals(user.getUserId())));
+    }
+
+    private void runNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -3,56 +3,99 @@ package com.workhub.server.security.annotation;
 import com.workhub.server.constant.UserRole;
 import com.workhub.server.security.SecurityService;
 import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
-import java.util.Arrays;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Aspect
 @Component
 @RequiredArgsConstructor
-public class RoleAuthorizationAspect {
+public class RoleAuthorizationAspect implements SmartInitializingSingleton {
 
     private final SecurityService securityService;
+    private final ApplicationContext applicationContext;
 
-    @Before("@within(requireRole)")
-    public void checkClassLevelRole(RequireRole requireRole) {
-        enforceRole(requireRole.value());
-    }
+    // Resolved once per method; the per-call check is a map lookup plus one AND per annotation
+    private final Map<Method, int[]> requiredRoleMasks = new ConcurrentHashMap<>();
 
-    @Before("@annotation(requireRole)")
-    public void checkMethodLevelRole(RequireRole requireRole) {
-        enforceRole(requireRole.value());
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Object controller : applicationContext.getBeansWithAnnotation(Controller.class).values()) {
+            Class<?> controllerClass = ClassUtils.getUserClass(controller);
+            ReflectionUtils.doWithMethods(controllerClass,
+                    method -> requiredRoleMasks.put(method, resolveRequiredRoleMasks(method)),
+                    method -> hasRoleAnnotation(method) || hasRoleAnnotation(method.getDeclaringClass()));
+        }
     }
 
-    @Before("@within(requireAnyRole)")
-    public void checkClassLevelAnyRole(RequireAnyRole requireAnyRole) {
-        enforceAnyRole(requireAnyRole.value());
+    @Before("@within(com.workhub.server.security.annotation.RequireRole)"
+            + " || @annotation(com.workhub.server.security.annotation.RequireRole)"
+            + " || @within(com.workhub.server.security.annotation.RequireAnyRole)"
+            + " || @annotation(com.workhub.server.security.annotation.RequireAnyRole)")
+    public void checkRoles(JoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        int[] requiredMasks = requiredRoleMasks.get(method);
+        if (requiredMasks == null) {
+            requiredMasks = requiredRoleMasks.computeIfAbsent(method, this::resolveRequiredRoleMasks);
+        }
+
+        int callerMask = securityService.getCurrentRoleMask();
+        for (int requiredMask : requiredMasks) {
+            if (requiredMask == 0) {
+                throw new AccessDeniedException("No role configured for this action");
+            }
+            if ((callerMask & requiredMask) == 0) {
+                throw new AccessDeniedException("Insufficient role to perform this action");
+            }
+        }
     }
 
-    @Before("@annotation(requireAnyRole)")
-    public void checkMethodLevelAnyRole(RequireAnyRole requireAnyRole) {
-        enforceAnyRole(requireAnyRole.value());
+    // One mask per annotation (class level first, then method level); the caller must match every mask
+    private int[] resolveRequiredRoleMasks(Method method) {
+        List<Integer> masks = new ArrayList<>(4);
+        Class<?> declaringClass = method.getDeclaringClass();
+        addMask(masks, AnnotatedElementUtils.findMergedAnnotation(declaringClass, RequireRole.class));
+        addMask(masks, AnnotatedElementUtils.findMergedAnnotation(declaringClass, RequireAnyRole.class));
+        addMask(masks, AnnotatedElementUtils.findMergedAnnotation(method, RequireRole.class));
+        addMask(masks, AnnotatedElementUtils.findMergedAnnotation(method, RequireAnyRole.class));
+        return masks.stream().mapToInt(Integer::intValue).toArray();
     }
 
-    private void enforceRole(UserRole role) {
-        if (role == null || securityService.hasRole(role)) {
-            return;
+    private static void addMask(List<Integer> masks, RequireRole requireRole) {
+        if (requireRole != null && requireRole.value() != null) {
+            masks.add(requireRole.value().mask());
         }
-        throw new AccessDeniedException("Insufficient role to perform this action");
     }
 
-    private void enforceAnyRole(UserRole[] roles) {
-        if (roles == null || roles.length == 0) {
-            throw new AccessDeniedException("No role configured for this action");
-        }
-        if (Arrays.stream(roles).anyMatch(securityService::hasRole)) {
+    private static void addMask(List<Integer> masks, RequireAnyRole requireAnyRole) {
+        if (requireAnyRole == null) {
             return;
         }
-        throw new AccessDeniedException("Insufficient role to perform this action");
+        int mask = 0;
+        for (UserRole role : requireAnyRole.value()) {
+            mask |= role.mask();
+        }
+        masks.add(mask);
     }
-}
-
 
+    private static boolean hasRoleAnnotation(AnnotatedElement element) {
+        return AnnotatedElementUtils.hasAnnotation(element, RequireRole.class)
+                || AnnotatedElementUtils.hasAnnotation(element, RequireAnyRole.class);
+    }
+}
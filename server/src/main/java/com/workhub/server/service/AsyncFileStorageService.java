@@ -0,0 +1,21 @@
+package com.workhub.server.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Non-blocking counterpart of {@link FileStorageService}: calls return immediately and the futures
+ * complete on the storage client's I/O threads, so no request thread waits on storage.
+ */
+public interface AsyncFileStorageService {
+
+    /**
+     * Upload file to underlying storage. The content type is detected from the first bytes.
+     *
+     * @param file   multipart file
+     * @param folder logical folder/prefix in bucket, e.g. "avatars" or "attachments"
+     * @return storage key, size and detected content type once the upload finished
+     */
+    CompletableFuture<StoredFile> upload(MultipartFile file, String folder);
+}
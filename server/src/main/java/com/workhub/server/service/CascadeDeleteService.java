@@ -0,0 +1,13 @@
+package com.workhub.server.service;
+
+import java.util.UUID;
+
+import com.workhub.server.dto.response.DeletionProgressResponse;
+
+public interface CascadeDeleteService {
+    DeletionProgressResponse deleteCompany(UUID companyId, boolean background);
+
+    DeletionProgressResponse deleteJob(UUID jobId, boolean background);
+
+    DeletionProgressResponse getProgress(UUID deletionId);
+}
@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import com.workhub.server.dto.request.AddUserToCompanyRequest;
 import com.workhub.server.dto.request.CompanyRequest;
+import com.workhub.server.dto.request.PageCursor;
 import com.workhub.server.dto.response.CompanyResponse;
 import com.workhub.server.dto.response.PaginationResponse;
 
@@ -16,6 +17,15 @@ public interface CompanyService {
 
     PaginationResponse<CompanyResponse> getAllCompanies(int page, int size);
 
+    /**
+     * @param includeMembers when false only {@code userCount} is filled, not the member list
+     * @param includeTotal   when false no COUNT query runs and only {@code hasNext} is reported
+     */
+    PaginationResponse<CompanyResponse> getAllCompanies(int page, int size, boolean includeMembers,
+            boolean includeTotal);
+
+    PaginationResponse<CompanyResponse> getAllCompanies(PageCursor after, int limit, boolean includeMembers);
+
     void deleteCompany(UUID id);
 
     void addUserToCompany(UUID companyId, AddUserToCompanyRequest request);
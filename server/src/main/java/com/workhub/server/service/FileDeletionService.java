@@ -0,0 +1,20 @@
+package com.workhub.server.service;
+
+public interface FileDeletionService {
+
+    /**
+     * Record a storage object for deletion in the current transaction. The object is removed
+     * asynchronously once that transaction has committed, and never if it rolls back. Shared
+     * content-addressed objects only lose one reference and are removed once none is left.
+     *
+     * @param key object key in bucket
+     */
+    void enqueue(String key);
+
+    /**
+     * Delete every object that is due, in batches, rescheduling failures with backoff.
+     *
+     * @return number of objects deleted
+     */
+    int drain();
+}
@@ -0,0 +1,53 @@
+package com.workhub.server.service;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Reference counts for content-addressed storage, where identical uploads share one object.
+ * Objects that are not tracked here belong to a single upload and can be deleted directly.
+ */
+public interface FileReferenceService {
+
+    enum Release {
+        /** Not a shared object: delete as usual */
+        UNTRACKED,
+        /** Other uploads still use the object: keep it */
+        REFERENCED,
+        /** Last reference dropped: the object may be deleted */
+        UNREFERENCED
+    }
+
+    enum Retain {
+        /** Counted on an object stored by an earlier upload: it may be reused if it is there */
+        EXISTING,
+        /** First reference: the object must be uploaded */
+        NEW,
+        /** The object is being deleted right now: store this upload under a key of its own */
+        DELETING
+    }
+
+    /**
+     * Count one more reference to a content-addressed object. Called before deciding whether the
+     * object still has to be uploaded, so a queued delete cannot remove it in between.
+     */
+    Retain retain(StoredFile file);
+
+    /**
+     * Drop one reference to an object that is about to be deleted.
+     */
+    Release release(String key);
+
+    /**
+     * @return those of the keys that are referenced again and must not be deleted
+     */
+    Set<String> findReferenced(Collection<String> keys);
+
+    /**
+     * Called in the transaction that claims queued deletes: forgets the counts of the keys that are at
+     * zero, holding their locks until the claim commits, so an upload racing the delete cannot revive them.
+     *
+     * @return those of the keys that are referenced again and must not be deleted
+     */
+    Set<String> claimUnreferenced(Collection<String> keys);
+}
@@ -1,9 +1,16 @@
 package com.workhub.server.service;
 
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.springframework.web.multipart.MultipartFile;
 
 public interface FileStorageService {
 
+    long MAX_FILE_SIZE = 10L * 1024 * 1024;
+
     /**
      * Upload file to underlying storage.
      *
@@ -13,12 +20,76 @@ public interface FileStorageService {
      */
     String upload(MultipartFile file, String folder);
 
+    /**
+     * Upload file content while it is read, holding at most one part in memory. The content type
+     * is detected from the first bytes rather than taken from the client.
+     *
+     * @param content stream positioned at the first byte; read to the end but not closed
+     * @param folder  logical folder/prefix in bucket, e.g. "avatars" or "attachments"
+     * @return storage key, size and detected content type
+     */
+    StoredFile upload(InputStream content, String folder);
+
+    /**
+     * Sign a PUT the client sends directly to storage. The content type and length are part of the
+     * signature, so the upload must match what was declared here.
+     */
+    PresignedUrl presignUpload(String folder, String contentType, long size);
+
+    /**
+     * Sign a GET the client uses to download directly from storage.
+     */
+    PresignedUrl presignDownload(String key);
+
+    /**
+     * Validate an object uploaded with a presigned URL. Objects that are too large or whose content
+     * does not match the type the upload was signed for are rejected; the caller deletes them.
+     *
+     * @param key         object key issued by {@link #presignUpload}
+     * @param contentType content type the upload was signed for
+     * @throws com.workhub.server.exception.custom.UploadNotFoundException if nothing was uploaded yet
+     */
+    StoredFile completeUpload(String key, String contentType);
+
+    /**
+     * Open a stored object for reading. The caller closes the stream.
+     *
+     * @param key object key in bucket
+     */
+    InputStream open(String key);
+
+    /**
+     * Store generated content, such as an image variant, under a key chosen by the caller.
+     *
+     * @param key object key in bucket
+     */
+    void store(String key, byte[] content, String contentType);
+
     /**
      * Delete file by storage key.
      *
      * @param key object key in bucket
      */
     void delete(String key);
+
+    /**
+     * Delete several files, batching the calls where the storage supports it.
+     * Keys that do not exist count as deleted.
+     *
+     * @param keys object keys in bucket
+     * @return keys that could not be deleted
+     */
+    default Set<String> deleteAll(Collection<String> keys) {
+        Set<String> failed = new HashSet<>();
+        for (String key : keys) {
+            try {
+                delete(key);
+            } catch (RuntimeException e) {
+                failed.add(key);
+            }
+        }
+        return failed;
+    }
 }
 
 
@@ -0,0 +1,54 @@
+package com.workhub.server.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Naming of resized image variants. A variant is stored next to its original as
+ * {@code <original without extension>_<width>w.jpg}, so keys and URLs are derived the same way.
+ */
+public final class ImageVariants {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private ImageVariants() {
+    }
+
+    /**
+     * @param original object key or URL of the original image
+     */
+    public static String variantOf(String original, int width) {
+        int extension = original.lastIndexOf('.');
+        String base = extension > original.lastIndexOf('/') ? original.substring(0, extension) : original;
+        return base + "_" + width + "w.jpg";
+    }
+
+    /**
+     * @return variant URLs by width, or null when none have been generated for the original
+     */
+    public static Map<Integer, String> urls(String originalUrl, String widths) {
+        if (!StringUtils.hasText(originalUrl) || !StringUtils.hasText(widths)) {
+            return null;
+        }
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        parse(widths).forEach(width -> urls.put(width, variantOf(originalUrl, width)));
+        return urls;
+    }
+
+    public static String format(Collection<Integer> widths) {
+        return widths.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    public static List<Integer> parse(String widths) {
+        if (!StringUtils.hasText(widths)) {
+            return List.of();
+        }
+        return Arrays.stream(widths.split(",")).map(String::trim).map(Integer::valueOf).toList();
+    }
+}
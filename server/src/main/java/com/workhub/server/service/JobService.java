@@ -3,8 +3,11 @@ package com.workhub.server.service;
 import java.util.UUID;
 
 import com.workhub.server.constant.JobStatus;
+import com.workhub.server.dto.request.BulkJobStatusUpdateRequest;
 import com.workhub.server.dto.request.JobRequest;
 import com.workhub.server.dto.request.JobStatusUpdateRequest;
+import com.workhub.server.dto.request.PageCursor;
+import com.workhub.server.dto.response.BulkStatusUpdateResponse;
 import com.workhub.server.dto.response.JobResponse;
 import com.workhub.server.dto.response.PaginationResponse;
 
@@ -15,17 +18,31 @@ public interface JobService {
     
     JobResponse updateJobStatus(UUID id, JobStatusUpdateRequest request);
 
+    BulkStatusUpdateResponse updateJobStatuses(BulkJobStatusUpdateRequest request);
+
     JobResponse getJobById(UUID id);
 
-    PaginationResponse<JobResponse> getAllJobs(int page, int size);
+    PaginationResponse<JobResponse> getAllJobs(int page, int size, boolean includeTotal);
+
+    PaginationResponse<JobResponse> getAllJobs(PageCursor after, int limit);
     
-    PaginationResponse<JobResponse> getJobsByCompany(UUID companyId, int page, int size);
+    PaginationResponse<JobResponse> getJobsByCompany(UUID companyId, int page, int size, boolean includeTotal);
+
+    PaginationResponse<JobResponse> getJobsByCompany(UUID companyId, PageCursor after, int limit);
     
-    PaginationResponse<JobResponse> getJobsByOwner(UUID ownerId, int page, int size);
+    PaginationResponse<JobResponse> getJobsByOwner(UUID ownerId, int page, int size, boolean includeTotal);
+
+    PaginationResponse<JobResponse> getJobsByOwner(UUID ownerId, PageCursor after, int limit);
     
-    PaginationResponse<JobResponse> getJobsByStatus(JobStatus status, int page, int size);
+    PaginationResponse<JobResponse> getJobsByStatus(JobStatus status, int page, int size, boolean includeTotal);
+
+    PaginationResponse<JobResponse> getJobsByStatus(JobStatus status, PageCursor after, int limit);
     
-    PaginationResponse<JobResponse> getJobsByCompanyAndStatus(UUID companyId, JobStatus status, int page, int size);
+    PaginationResponse<JobResponse> getJobsByCompanyAndStatus(UUID companyId, JobStatus status, int page, int size,
+            boolean includeTotal);
+
+    PaginationResponse<JobResponse> getJobsByCompanyAndStatus(UUID companyId, JobStatus status, PageCursor after,
+            int limit);
 
     void deleteJob(UUID id);
 }
@@ -0,0 +1,22 @@
+package com.workhub.server.service;
+
+/**
+ * Presigned uploads the client sends straight to storage. Only keys issued here can be completed.
+ */
+public interface PresignedUploadService {
+
+    /**
+     * Sign an upload and record its key as pending until it is completed.
+     *
+     * @param folder logical folder/prefix in bucket, e.g. "avatars" or "attachments"
+     */
+    PresignedUrl issue(String folder, String contentType, long size);
+
+    /**
+     * Validate an issued upload against the content type it was signed for. Rejected objects are
+     * queued for deletion; the key cannot be completed again either way.
+     *
+     * @param key object key returned by {@link #issue}
+     */
+    StoredFile complete(String key);
+}
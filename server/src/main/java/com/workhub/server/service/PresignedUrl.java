@@ -0,0 +1,11 @@
+package com.workhub.server.service;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A signed request the client sends straight to storage. Headers must be sent exactly as given,
+ * since they are part of the signature.
+ */
+public record PresignedUrl(String key, String url, String method, Map<String, String> headers, Instant expiresAt) {
+}
@@ -0,0 +1,7 @@
+package com.workhub.server.service;
+
+/**
+ * Result of a streaming upload: where the object was stored and what was detected while reading it.
+ */
+public record StoredFile(String key, long size, String contentType) {
+}
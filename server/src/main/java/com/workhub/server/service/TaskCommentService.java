@@ -2,6 +2,7 @@ package com.workhub.server.service;
 
 import java.util.UUID;
 
+import com.workhub.server.dto.request.PageCursor;
 import com.workhub.server.dto.request.TaskCommentRequest;
 import com.workhub.server.dto.response.TaskCommentResponse;
 import com.workhub.server.dto.response.PaginationResponse;
@@ -11,11 +12,17 @@ public interface TaskCommentService {
 
     TaskCommentResponse getCommentById(UUID id);
 
-    PaginationResponse<TaskCommentResponse> getAllComments(int page, int size);
+    PaginationResponse<TaskCommentResponse> getAllComments(int page, int size, boolean includeTotal);
+
+    PaginationResponse<TaskCommentResponse> getAllComments(PageCursor after, int limit);
     
-    PaginationResponse<TaskCommentResponse> getCommentsByTask(UUID taskId, int page, int size);
+    PaginationResponse<TaskCommentResponse> getCommentsByTask(UUID taskId, int page, int size, boolean includeTotal);
+
+    PaginationResponse<TaskCommentResponse> getCommentsByTask(UUID taskId, PageCursor after, int limit);
     
-    PaginationResponse<TaskCommentResponse> getCommentsByUser(UUID userId, int page, int size);
+    PaginationResponse<TaskCommentResponse> getCommentsByUser(UUID userId, int page, int size, boolean includeTotal);
+
+    PaginationResponse<TaskCommentResponse> getCommentsByUser(UUID userId, PageCursor after, int limit);
 
     void deleteComment(UUID id);
 }
@@ -3,34 +3,59 @@ package com.workhub.server.service;
 import java.util.UUID;
 
 import com.workhub.server.constant.TaskStatus;
+import com.workhub.server.dto.request.BulkTaskRequest;
+import com.workhub.server.dto.request.BulkTaskStatusUpdateRequest;
+import com.workhub.server.dto.request.PageCursor;
 import com.workhub.server.dto.request.TaskRequest;
 import com.workhub.server.dto.request.TaskStatusUpdateRequest;
+import com.workhub.server.dto.response.BulkStatusUpdateResponse;
+import com.workhub.server.dto.response.BulkTaskResponse;
 import com.workhub.server.dto.response.TaskResponse;
 import com.workhub.server.dto.response.PaginationResponse;
 
 public interface TaskService {
     TaskResponse createTask(TaskRequest request);
 
+    BulkTaskResponse createTasks(BulkTaskRequest request);
+
     TaskResponse updateTask(UUID id, TaskRequest request);
 
     TaskResponse updateTaskStatus(UUID id, TaskStatusUpdateRequest request);
 
+    BulkStatusUpdateResponse updateTaskStatuses(BulkTaskStatusUpdateRequest request);
+
     TaskResponse getTaskById(UUID id);
 
-    PaginationResponse<TaskResponse> getAllTasks(int page, int size);
+    PaginationResponse<TaskResponse> getAllTasks(int page, int size, boolean includeTotal);
+
+    PaginationResponse<TaskResponse> getAllTasks(PageCursor after, int limit);
+
+    PaginationResponse<TaskResponse> getTasksByCompany(UUID companyId, int page, int size, boolean includeTotal);
+
+    PaginationResponse<TaskResponse> getTasksByCompany(UUID companyId, PageCursor after, int limit);
 
-    PaginationResponse<TaskResponse> getTasksByCompany(UUID companyId, int page, int size);
+    PaginationResponse<TaskResponse> getTasksByJob(UUID jobId, int page, int size, boolean includeTotal);
 
-    PaginationResponse<TaskResponse> getTasksByJob(UUID jobId, int page, int size);
+    PaginationResponse<TaskResponse> getTasksByJob(UUID jobId, PageCursor after, int limit);
 
-    PaginationResponse<TaskResponse> getTasksByAssignee(UUID assigneeId, int page, int size);
+    PaginationResponse<TaskResponse> getTasksByAssignee(UUID assigneeId, int page, int size, boolean includeTotal);
 
-    PaginationResponse<TaskResponse> getTasksByStatus(TaskStatus status, int page, int size);
+    PaginationResponse<TaskResponse> getTasksByAssignee(UUID assigneeId, PageCursor after, int limit);
 
-    PaginationResponse<TaskResponse> getTasksByJobAndStatus(UUID jobId, TaskStatus status, int page, int size);
+    PaginationResponse<TaskResponse> getTasksByStatus(TaskStatus status, int page, int size, boolean includeTotal);
+
+    PaginationResponse<TaskResponse> getTasksByStatus(TaskStatus status, PageCursor after, int limit);
+
+    PaginationResponse<TaskResponse> getTasksByJobAndStatus(UUID jobId, TaskStatus status, int page, int size,
+            boolean includeTotal);
+
+    PaginationResponse<TaskResponse> getTasksByJobAndStatus(UUID jobId, TaskStatus status, PageCursor after, int limit);
 
     PaginationResponse<TaskResponse> getTasksByAssigneeAndStatus(UUID assigneeId, TaskStatus status, int page,
-            int size);
+            int size, boolean includeTotal);
+
+    PaginationResponse<TaskResponse> getTasksByAssigneeAndStatus(UUID assigneeId, TaskStatus status, PageCursor after,
+            int limit);
 
     void deleteTask(UUID id);
 }
@@ -0,0 +1,25 @@
+package com.workhub.server.service;
+
+import java.util.UUID;
+
+public interface ThumbnailService {
+
+    /**
+     * Generate resized variants of a company logo in the background once the current transaction
+     * commits. Logos outside the application bucket or not decodable as images are left as they are.
+     */
+    void generateLogoVariants(UUID companyId, String logoUrl);
+
+    /**
+     * Generate resized variants of a user avatar in the background once the current transaction commits.
+     */
+    void generateAvatarVariants(UUID userId, String avatarUrl);
+
+    /**
+     * Queue the variants of an image that was replaced or removed for deletion.
+     *
+     * @param originalUrl URL of the original image
+     * @param widths      generated widths as stored on the entity
+     */
+    void deleteVariants(String originalUrl, String widths);
+}
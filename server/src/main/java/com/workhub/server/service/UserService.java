@@ -2,6 +2,7 @@ package com.workhub.server.service;
 
 import java.util.UUID;
 
+import com.workhub.server.dto.request.PageCursor;
 import com.workhub.server.dto.request.UserRequest;
 import com.workhub.server.dto.response.UserResponse;
 import com.workhub.server.dto.response.PaginationResponse;
@@ -13,9 +14,13 @@ public interface UserService {
 
     UserResponse getUserById(UUID id);
 
-    PaginationResponse<UserResponse> getAllUsers(int page, int size);
+    PaginationResponse<UserResponse> getAllUsers(int page, int size, boolean includeTotal);
 
-    PaginationResponse<UserResponse> getUsersByCompany(UUID companyId, int page, int size);
+    PaginationResponse<UserResponse> getAllUsers(PageCursor after, int limit);
+
+    PaginationResponse<UserResponse> getUsersByCompany(UUID companyId, int page, int size, boolean includeTotal);
+
+    PaginationResponse<UserResponse> getUsersByCompany(UUID companyId, PageCursor after, int limit);
 
     void deleteUser(UUID id);
 }
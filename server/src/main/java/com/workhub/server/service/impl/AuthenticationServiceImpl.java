@@ -14,8 +14,10 @@ import com.workhub.server.entity.CompanyUser;
 import com.workhub.server.repository.CompanyRepository;
 import com.workhub.server.repository.CompanyUserRepository;
 import com.workhub.server.repository.UserRepository;
+import com.workhub.server.security.AuthenticatedUser;
 import com.workhub.server.security.CustomUserDetailsService;
 import com.workhub.server.security.JwtTokenProvider;
+import com.workhub.server.security.UserDetailsCache;
 import com.workhub.server.service.AuthenticationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -45,6 +47,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
     private final CustomUserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     @Transactional
@@ -72,10 +75,10 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
         // Generate token with extra claims
         Map<String, Object> extraClaims = new HashMap<>();
-        extraClaims.put("userId", user.getId().toString());
-        extraClaims.put("role", user.getRole().name());
+        extraClaims.put(AuthenticatedUser.CLAIM_USER_ID, user.getId().toString());
+        extraClaims.put(AuthenticatedUser.CLAIM_ROLE, user.getRole().name());
         if (companyId != null) {
-            extraClaims.put("companyId", companyId.toString());
+            extraClaims.put(AuthenticatedUser.CLAIM_COMPANY_ID, companyId.toString());
         }
 
         String token = jwtTokenProvider.generateToken(userDetails, extraClaims);
@@ -110,6 +113,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         user.setIsActive(true);
 
         User savedUser = userRepository.save(user);
+        userDetailsCache.evict(savedUser.getEmail());
 
         // Create company_user relationship
         CompanyUser companyUser = new CompanyUser();
@@ -120,9 +124,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         // Generate token
         UserDetails userDetails = userDetailsService.loadUserByUsername(savedUser.getEmail());
         Map<String, Object> extraClaims = new HashMap<>();
-        extraClaims.put("userId", savedUser.getId().toString());
-        extraClaims.put("role", savedUser.getRole().name());
-        extraClaims.put("companyId", company.getId().toString());
+        extraClaims.put(AuthenticatedUser.CLAIM_USER_ID, savedUser.getId().toString());
+        extraClaims.put(AuthenticatedUser.CLAIM_ROLE, savedUser.getRole().name());
+        extraClaims.put(AuthenticatedUser.CLAIM_COMPANY_ID, company.getId().toString());
 
         String token = jwtTokenProvider.generateToken(userDetails, extraClaims);
 
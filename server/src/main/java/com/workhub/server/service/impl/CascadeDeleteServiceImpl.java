@@ -0,0 +1,255 @@
+package com.workhub.server.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.workhub.server.cache.CountCache;
+import com.workhub.server.constant.DeletionStatus;
+import com.workhub.server.constant.DeletionTarget;
+import com.workhub.server.dto.response.DeletionProgressResponse;
+import com.workhub.server.exception.custom.CompanyNotFoundException;
+import com.workhub.server.exception.custom.DeletionNotFoundException;
+import com.workhub.server.exception.custom.JobNotFoundException;
+import com.workhub.server.repository.CompanyRepository;
+import com.workhub.server.repository.CompanyUserRepository;
+import com.workhub.server.repository.JobRepository;
+import com.workhub.server.repository.TaskCommentRepository;
+import com.workhub.server.repository.TaskRepository;
+import com.workhub.server.service.CascadeDeleteService;
+import com.workhub.server.service.CompanyService;
+import com.workhub.server.service.JobService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Removes a company or job with everything under it, children first, in batches of ids. Every batch
+ * commits on its own, so no transaction holds locks on a whole tenant and memory stays bounded.
+ * Runs inline or on a small dedicated pool; progress is kept in memory for {@code deletion.retention}.
+ * No class-level transaction: each batch opens its own.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@SuppressWarnings("null")
+public class CascadeDeleteServiceImpl implements CascadeDeleteService {
+    private final CompanyRepository companyRepository;
+    private final CompanyUserRepository companyUserRepository;
+    private final JobRepository jobRepository;
+    private final TaskRepository taskRepository;
+    private final TaskCommentRepository taskCommentRepository;
+    private final CompanyService companyService;
+    private final JobService jobService;
+    private final CountCache countCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${deletion.batch-size:500}")
+    private int batchSize;
+
+    @Value("${deletion.worker-threads:1}")
+    private int workerThreads;
+
+    @Value("${deletion.retention:1h}")
+    private Duration retention;
+
+    private final Map<UUID, Deletion> deletions = new ConcurrentHashMap<>();
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setThreadNamePrefix("cascade-delete-");
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public DeletionProgressResponse deleteCompany(UUID companyId, boolean background) {
+        if (!companyRepository.existsById(companyId)) {
+            throw new CompanyNotFoundException(companyId);
+        }
+
+        return start(DeletionTarget.COMPANY, companyId, background, deletion -> {
+            drain(deletion.comments, () -> taskCommentRepository.findIdsByCompanyId(companyId, batch()),
+                    taskCommentRepository::deleteByIdIn);
+            drain(deletion.tasks, () -> taskRepository.findIdsByCompanyId(companyId, batch()),
+                    ids -> deleteTasks(deletion, ids));
+            // Separate pass so the passes above stay on the company_id indexes
+            drain(deletion.tasks, () -> taskRepository.findIdsByJobCompanyId(companyId, batch()),
+                    ids -> deleteTasks(deletion, ids));
+            drain(deletion.jobs, () -> jobRepository.findIdsByCompanyId(companyId, batch()),
+                    jobRepository::deleteByIdIn);
+            drain(deletion.memberships, () -> companyUserRepository.findIdsByCompanyId(companyId, batch()),
+                    companyUserRepository::deleteByIdIn);
+            // Nothing is left under the company: the regular delete also removes its logo
+            companyService.deleteCompany(companyId);
+        });
+    }
+
+    @Override
+    public DeletionProgressResponse deleteJob(UUID jobId, boolean background) {
+        if (!jobRepository.existsById(jobId)) {
+            throw new JobNotFoundException(jobId);
+        }
+
+        return start(DeletionTarget.JOB, jobId, background, deletion -> {
+            drain(deletion.comments, () -> taskCommentRepository.findIdsByJobId(jobId, batch()),
+                    taskCommentRepository::deleteByIdIn);
+            drain(deletion.tasks, () -> taskRepository.findIdsByJobId(jobId, batch()),
+                    ids -> deleteTasks(deletion, ids));
+            jobService.deleteJob(jobId);
+            deletion.jobs.incrementAndGet();
+        });
+    }
+
+    @Override
+    public DeletionProgressResponse getProgress(UUID deletionId) {
+        pruneFinished();
+        Deletion deletion = deletions.get(deletionId);
+        if (deletion == null) {
+            throw new DeletionNotFoundException(deletionId);
+        }
+        return deletion.toResponse();
+    }
+
+    private DeletionProgressResponse start(DeletionTarget target, UUID targetId, boolean background,
+            Consumer<Deletion> pipeline) {
+        Deletion deletion;
+        synchronized (deletions) {
+            pruneFinished();
+            // A second request for the same target reports the deletion already in progress
+            for (Deletion running : deletions.values()) {
+                if (running.targetId.equals(targetId) && running.status == DeletionStatus.RUNNING) {
+                    return running.toResponse();
+                }
+            }
+            deletion = new Deletion(UUID.randomUUID(), target, targetId);
+            deletions.put(deletion.id, deletion);
+        }
+
+        if (!background) {
+            run(deletion, pipeline);
+            return deletion.toResponse();
+        }
+
+        executor.execute(() -> {
+            try {
+                run(deletion, pipeline);
+            } catch (RuntimeException e) {
+                // Already recorded on the deletion and logged
+            }
+        });
+        return deletion.toResponse();
+    }
+
+    private void run(Deletion deletion, Consumer<Deletion> pipeline) {
+        log.info("Cascade delete {} started for {} {}", deletion.id, deletion.target, deletion.targetId);
+        try {
+            pipeline.accept(deletion);
+            deletion.finish(DeletionStatus.COMPLETED, null);
+            log.info("Cascade delete {} completed: {}", deletion.id, deletion.toResponse());
+        } catch (RuntimeException e) {
+            deletion.finish(DeletionStatus.FAILED, e.getMessage());
+            log.error("Cascade delete {} failed for {} {}", deletion.id, deletion.target, deletion.targetId, e);
+            throw e;
+        } finally {
+            countCache.invalidate(CountCache.TASKS);
+            countCache.invalidate(CountCache.JOBS);
+        }
+    }
+
+    /**
+     * Deletes batch after batch, each in its own transaction, until the query returns no more ids.
+     */
+    private void drain(AtomicLong counter, Supplier<List<UUID>> nextBatch, ToIntFunction<List<UUID>> delete) {
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<UUID> ids = nextBatch.get();
+                return ids.isEmpty() ? null : delete.applyAsInt(ids);
+            });
+            if (deleted == null) {
+                return;
+            }
+            counter.addAndGet(deleted);
+        }
+    }
+
+    private int deleteTasks(Deletion deletion, List<UUID> taskIds) {
+        // Comments added since the comment pass would otherwise block the task delete
+        deletion.comments.addAndGet(taskCommentRepository.deleteByTaskIdIn(taskIds));
+        return taskRepository.deleteByIdIn(taskIds);
+    }
+
+    private PageRequest batch() {
+        return PageRequest.of(0, batchSize);
+    }
+
+    private void pruneFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        deletions.values().removeIf(deletion -> deletion.finishedAt != null && deletion.finishedAt.isBefore(cutoff));
+    }
+
+    private static final class Deletion {
+        private final UUID id;
+        private final DeletionTarget target;
+        private final UUID targetId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong comments = new AtomicLong();
+        private final AtomicLong tasks = new AtomicLong();
+        private final AtomicLong jobs = new AtomicLong();
+        private final AtomicLong memberships = new AtomicLong();
+        private volatile DeletionStatus status = DeletionStatus.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private Deletion(UUID id, DeletionTarget target, UUID targetId) {
+            this.id = id;
+            this.target = target;
+            this.targetId = targetId;
+        }
+
+        private void finish(DeletionStatus status, String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        private DeletionProgressResponse toResponse() {
+            return DeletionProgressResponse.builder()
+                    .id(id)
+                    .target(target)
+                    .targetId(targetId)
+                    .status(status)
+                    .commentsDeleted(comments.get())
+                    .tasksDeleted(tasks.get())
+                    .jobsDeleted(jobs.get())
+                    .membershipsDeleted(memberships.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
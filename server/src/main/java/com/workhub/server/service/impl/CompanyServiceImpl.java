@@ -1,20 +1,30 @@
 package com.workhub.server.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import com.workhub.server.entity.User;
 
-import org.springframework.data.domain.Page;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import com.workhub.server.dto.request.AddUserToCompanyRequest;
 import com.workhub.server.dto.request.CompanyRequest;
+import com.workhub.server.dto.request.PageCursor;
 import com.workhub.server.dto.response.CompanyResponse;
 import com.workhub.server.dto.response.PaginationResponse;
+import com.workhub.server.dto.response.UserResponse;
 import com.workhub.server.entity.Company;
 import com.workhub.server.entity.CompanyUser;
 import com.workhub.server.exception.custom.CompanyNotFoundException;
@@ -25,8 +35,10 @@ import com.workhub.server.mapper.UserMapper;
 import com.workhub.server.repository.CompanyRepository;
 import com.workhub.server.repository.CompanyUserRepository;
 import com.workhub.server.repository.UserRepository;
+import com.workhub.server.repository.projection.CompanyUserCount;
 import com.workhub.server.service.CompanyService;
-import com.workhub.server.service.FileStorageService;
+import com.workhub.server.service.FileDeletionService;
+import com.workhub.server.service.ThumbnailService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,7 +57,8 @@ public class CompanyServiceImpl implements CompanyService {
     private final CompanyUserRepository companyUserRepository;
     private final UserRepository userRepository;
     private final UserMapper userMapper;
-    private final FileStorageService fileStorageService;
+    private final FileDeletionService fileDeletionService;
+    private final ThumbnailService thumbnailService;
     
     @Value("${aws.s3.bucket}")
     private String bucketName;
@@ -60,6 +73,9 @@ public class CompanyServiceImpl implements CompanyService {
 
         Company company = companyMapper.toEntity(request);
         Company savedCompany = companyRepository.save(company);
+        if (StringUtils.hasText(savedCompany.getLogoUrl())) {
+            thumbnailService.generateLogoVariants(savedCompany.getId(), savedCompany.getLogoUrl());
+        }
         return companyMapper.toResponse(savedCompany);
     }
 
@@ -75,45 +91,57 @@ public class CompanyServiceImpl implements CompanyService {
             throw new DuplicateCompanyNameException(request.getName());
         }
 
+        String previousLogoUrl = company.getLogoUrl();
         companyMapper.updateEntityFromRequest(request, company);
+        if (!Objects.equals(previousLogoUrl, company.getLogoUrl())) {
+            // Variants belong to the old logo; new ones are generated after commit
+            thumbnailService.deleteVariants(previousLogoUrl, company.getLogoVariants());
+            company.setLogoVariants(null);
+            if (StringUtils.hasText(company.getLogoUrl())) {
+                thumbnailService.generateLogoVariants(id, company.getLogoUrl());
+            }
+        }
         Company updatedCompany = companyRepository.save(company);
         return companyMapper.toResponse(updatedCompany);
     }
 
     @Override
     public CompanyResponse getCompanyById(UUID id) {
-        log.info("Fetching company with id: {}", companyRepository.findById(id));
+        log.info("Fetching company with id: {}", id);
         Company company = companyRepository.findById(id)
                 .orElseThrow(() -> new CompanyNotFoundException(id));
         CompanyResponse response = companyMapper.toResponse(company);
         // Load and set users through company_users junction table
-        List<User> users = companyUserRepository.findUsersByCompanyId(id);
-        response.setUsers(users.stream()
-                .map(userMapper::toResponse)
-                .collect(Collectors.toList()));
+        List<UserResponse> users = loadMembers(List.of(id)).getOrDefault(id, List.of());
+        response.setUsers(users);
+        response.setUserCount((long) users.size());
         return response;
     }
 
     @Override
     public PaginationResponse<CompanyResponse> getAllCompanies(int page, int size) {
-        Page<Company> companies = companyRepository.findAll(PageRequest.of(page, size));
-
-        return new PaginationResponse<>(
-                companies.stream()
-                        .map(company -> {
-                            CompanyResponse response = companyMapper.toResponse(company);
-                            // Load and set users through company_users junction table
-                            List<User> users = companyUserRepository.findUsersByCompanyId(company.getId());
-                            response.setUsers(users.stream()
-                                    .map(userMapper::toResponse)
-                                    .collect(Collectors.toList()));
-                            return response;
-                        })
-                        .collect(Collectors.toList()),
-                page,
-                size,
-                companies.getTotalElements(),
-                companies.getTotalPages());
+        return getAllCompanies(page, size, true, true);
+    }
+
+    @Override
+    public PaginationResponse<CompanyResponse> getAllCompanies(int page, int size, boolean includeMembers,
+            boolean includeTotal) {
+        Slice<Company> companies = companyRepository.findAllBy(PageRequest.of(page, size));
+        List<CompanyResponse> responses = toResponses(companies.getContent(), includeMembers);
+
+        return PaginationResponse.of(new SliceImpl<>(responses, companies.getPageable(), companies.hasNext()),
+                includeTotal, companyRepository::count);
+    }
+
+    @Override
+    public PaginationResponse<CompanyResponse> getAllCompanies(PageCursor after, int limit, boolean includeMembers) {
+        Slice<Company> companies = companyRepository.findAllAfter(
+                after.createdAt(), after.id(), PageRequest.of(0, limit));
+        List<CompanyResponse> responses = toResponses(companies.getContent(), includeMembers);
+
+        return PaginationResponse.ofSlice(
+                new SliceImpl<>(responses, companies.getPageable(), companies.hasNext()),
+                response -> new PageCursor(response.getCreatedAt(), response.getId()));
     }
 
     @Override
@@ -126,19 +154,15 @@ public class CompanyServiceImpl implements CompanyService {
         companyUserRepository.deleteByCompanyId(id);
         log.info("Deleted all company_user relationships for company: {}", id);
 
-        // Delete logo from S3 if exists
+        // Queue the logo for deletion from S3; it is removed after this transaction commits
         if (company.getLogoUrl() != null && !company.getLogoUrl().isEmpty()) {
-            try {
-                String key = extractKeyFromUrl(company.getLogoUrl());
-                if (key != null) {
-                    fileStorageService.delete(key);
-                    log.info("Deleted company logo from S3: {}", company.getLogoUrl());
-                } else {
-                    log.warn("Could not extract key from logo URL: {}", company.getLogoUrl());
-                }
-            } catch (Exception e) {
-                log.warn("Failed to delete company logo from S3: {}", company.getLogoUrl(), e);
-                // Continue with company deletion even if logo deletion fails
+            String key = extractKeyFromUrl(company.getLogoUrl());
+            if (key != null) {
+                fileDeletionService.enqueue(key);
+                thumbnailService.deleteVariants(company.getLogoUrl(), company.getLogoVariants());
+                log.info("Queued company logo for deletion from S3: {}", company.getLogoUrl());
+            } else {
+                log.warn("Could not extract key from logo URL: {}", company.getLogoUrl());
             }
         }
 
@@ -166,11 +190,75 @@ public class CompanyServiceImpl implements CompanyService {
         CompanyUser companyUser = new CompanyUser();
         companyUser.setCompany(company);
         companyUser.setUser(user);
-        companyUserRepository.save(companyUser);
+        try {
+            // Flush so a concurrent add hits the (company_id, user_id) unique key here, not at commit
+            companyUserRepository.saveAndFlush(companyUser);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateMembership(e)) {
+                throw new IllegalArgumentException("User is already a member of this company");
+            }
+            throw e;
+        }
 
         log.info("Added user {} to company {}", request.getUserId(), companyId);
     }
 
+    // Only the membership unique key means "already a member"; FK and NOT NULL violations are real errors
+    static boolean isDuplicateMembership(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(CompanyUser.UNIQUE_MEMBERSHIP);
+    }
+
+    private List<CompanyResponse> toResponses(List<Company> companies, boolean includeMembers) {
+        List<UUID> companyIds = companies.stream()
+                .map(Company::getId)
+                .collect(Collectors.toList());
+
+        if (includeMembers) {
+            Map<UUID, List<UserResponse>> members = loadMembers(companyIds);
+            return companies.stream()
+                    .map(company -> {
+                        CompanyResponse response = companyMapper.toResponse(company);
+                        List<UserResponse> users = members.getOrDefault(company.getId(), List.of());
+                        response.setUsers(users);
+                        response.setUserCount((long) users.size());
+                        return response;
+                    })
+                    .collect(Collectors.toList());
+        }
+
+        Map<UUID, Long> counts = loadMemberCounts(companyIds);
+        return companies.stream()
+                .map(company -> {
+                    CompanyResponse response = companyMapper.toResponse(company);
+                    response.setUserCount(counts.getOrDefault(company.getId(), 0L));
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
+    // One IN query for every company on the page instead of one query per company
+    private Map<UUID, List<UserResponse>> loadMembers(Collection<UUID> companyIds) {
+        if (companyIds.isEmpty()) {
+            return Map.of();
+        }
+        return companyUserRepository.findWithUsersByCompanyIdIn(companyIds).stream()
+                .collect(Collectors.groupingBy(
+                        companyUser -> companyUser.getCompany().getId(),
+                        Collectors.mapping(companyUser -> userMapper.toResponse(companyUser.getUser()),
+                                Collectors.toList())));
+    }
+
+    private Map<UUID, Long> loadMemberCounts(Collection<UUID> companyIds) {
+        if (companyIds.isEmpty()) {
+            return Map.of();
+        }
+        return companyUserRepository.countByCompanyIdIn(companyIds).stream()
+                .collect(Collectors.toMap(CompanyUserCount::getCompanyId, CompanyUserCount::getUserCount));
+    }
+
     private String extractKeyFromUrl(String url) {
         try {
             URI uri = URI.create(url);
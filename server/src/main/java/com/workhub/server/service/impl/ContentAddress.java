@@ -0,0 +1,26 @@
+package com.workhub.server.service.impl;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Keys of content-addressed objects: the SHA-256 of the content, so identical uploads share one object.
+ */
+final class ContentAddress {
+
+    private ContentAddress() {
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    static String key(String folder, byte[] digest, String extension) {
+        return String.format("%s/%s%s", folder, HexFormat.of().formatHex(digest), extension);
+    }
+}
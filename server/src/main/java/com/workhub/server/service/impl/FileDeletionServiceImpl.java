@@ -0,0 +1,160 @@
+package com.workhub.server.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.workhub.server.entity.FileDeletion;
+import com.workhub.server.repository.FileDeletionRepository;
+import com.workhub.server.service.FileDeletionService;
+import com.workhub.server.service.FileReferenceService;
+import com.workhub.server.service.FileStorageService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox-backed storage deletes. Rows are claimed by pushing their next attempt one lease into the
+ * future, so storage calls run outside any transaction and a crashed drainer's rows come back on their own.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileDeletionServiceImpl implements FileDeletionService {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final FileDeletionRepository fileDeletionRepository;
+    private final FileStorageService fileStorageService;
+    private final FileReferenceService fileReferenceService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${file-deletion.batch-size:500}")
+    private int batchSize;
+
+    @Value("${file-deletion.lease:5m}")
+    private Duration lease;
+
+    @Value("${file-deletion.retry-delay:30s}")
+    private Duration retryDelay;
+
+    @Value("${file-deletion.max-retry-delay:1h}")
+    private Duration maxRetryDelay;
+
+    @Value("${file-deletion.shared-object-grace:1h}")
+    private Duration sharedObjectGrace;
+
+    @Override
+    @Transactional
+    public void enqueue(String key) {
+        if (!StringUtils.hasText(key)) {
+            return;
+        }
+        LocalDateTime due = LocalDateTime.now();
+        switch (fileReferenceService.release(key)) {
+            case REFERENCED -> {
+                return;
+            }
+            // Leave time for a re-upload of the same content to claim the object instead of re-sending it
+            case UNREFERENCED -> due = due.plus(sharedObjectGrace);
+            case UNTRACKED -> {
+            }
+        }
+
+        FileDeletion deletion = new FileDeletion();
+        deletion.setObjectKey(key);
+        deletion.setNextAttemptAt(due);
+        fileDeletionRepository.save(deletion);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${file-deletion.poll-interval:10s}")
+    public int drain() {
+        int deleted = 0;
+        List<FileDeletion> claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> claimDue());
+            if (claimed.isEmpty()) {
+                break;
+            }
+
+            Set<String> keys = claimed.stream().map(FileDeletion::getObjectKey).collect(Collectors.toSet());
+            Set<String> failed;
+            String error = "Storage reported the delete as failed";
+            try {
+                failed = fileStorageService.deleteAll(keys);
+            } catch (RuntimeException e) {
+                log.error("Failed to delete {} objects from storage", keys.size(), e);
+                failed = keys;
+                error = e.getMessage();
+            }
+
+            List<FileDeletion> batch = claimed;
+            Set<String> failedKeys = failed;
+            String lastError = error;
+            transactionTemplate.executeWithoutResult(status -> recordOutcome(batch, failedKeys, lastError));
+            deleted += (int) claimed.stream().filter(row -> !failedKeys.contains(row.getObjectKey())).count();
+        } while (claimed.size() == batchSize);
+
+        if (deleted > 0) {
+            log.info("Deleted {} objects from storage", deleted);
+        }
+        return deleted;
+    }
+
+    private List<FileDeletion> claimDue() {
+        LocalDateTime now = LocalDateTime.now();
+        List<FileDeletion> due = fileDeletionRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+        due.forEach(row -> row.setNextAttemptAt(now.plus(lease)));
+
+        // Shared objects referenced again since they were queued are kept; the counts of the others
+        // are dropped under lock, so an upload from here on sends the object again
+        Set<String> referenced = fileReferenceService.claimUnreferenced(
+                due.stream().map(FileDeletion::getObjectKey).collect(Collectors.toSet()));
+        if (referenced.isEmpty()) {
+            return due;
+        }
+        fileDeletionRepository.deleteByIdIn(due.stream()
+                .filter(row -> referenced.contains(row.getObjectKey()))
+                .map(FileDeletion::getId)
+                .toList());
+        return due.stream().filter(row -> !referenced.contains(row.getObjectKey())).toList();
+    }
+
+    private void recordOutcome(List<FileDeletion> batch, Set<String> failedKeys, String error) {
+        List<FileDeletion> done = batch.stream()
+                .filter(row -> !failedKeys.contains(row.getObjectKey()))
+                .toList();
+        fileDeletionRepository.deleteByIdIn(done.stream().map(FileDeletion::getId).toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<FileDeletion> retries = batch.stream()
+                .filter(row -> failedKeys.contains(row.getObjectKey()))
+                .toList();
+        for (FileDeletion row : retries) {
+            row.setAttempts(row.getAttempts() + 1);
+            row.setNextAttemptAt(now.plus(backoff(row.getAttempts())));
+            row.setLastError(error != null && error.length() > MAX_ERROR_LENGTH
+                    ? error.substring(0, MAX_ERROR_LENGTH)
+                    : error);
+            log.warn("Deletion of {} failed (attempt {}), retrying at {}", row.getObjectKey(), row.getAttempts(),
+                    row.getNextAttemptAt());
+        }
+        fileDeletionRepository.saveAll(retries);
+    }
+
+    // retry-delay doubled per failed attempt, capped at max-retry-delay
+    private Duration backoff(int attempts) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+}
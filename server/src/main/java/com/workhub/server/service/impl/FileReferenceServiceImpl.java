@@ -0,0 +1,87 @@
+package com.workhub.server.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.workhub.server.repository.FileDeletionRepository;
+import com.workhub.server.repository.FileReferenceRepository;
+import com.workhub.server.service.FileReferenceService;
+import com.workhub.server.service.StoredFile;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class FileReferenceServiceImpl implements FileReferenceService {
+
+    private static final int MAX_RETAIN_ATTEMPTS = 3;
+
+    private final FileReferenceRepository fileReferenceRepository;
+    private final FileDeletionRepository fileDeletionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public Retain retain(StoredFile file) {
+        // Each step commits on its own, so a lost insert race does not roll back the retry. A count
+        // claimed for deletion is already gone, so an increment never revives one; the retry inserts anew.
+        for (int attempt = 1; ; attempt++) {
+            if (increment(file.key())) {
+                return Retain.EXISTING;
+            }
+            try {
+                return transactionTemplate.execute(status -> insertFirst(file));
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent upload of the same content inserted the row first
+                if (attempt == MAX_RETAIN_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public Release release(String key) {
+        if (fileReferenceRepository.decrementRefCount(key) == 0) {
+            return Release.UNTRACKED;
+        }
+        return fileReferenceRepository.findRefCount(key).orElse(0) > 0 ? Release.REFERENCED : Release.UNREFERENCED;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findReferenced(Collection<String> keys) {
+        return keys.isEmpty() ? Set.of() : fileReferenceRepository.findReferencedKeys(keys);
+    }
+
+    @Override
+    @Transactional
+    public Set<String> claimUnreferenced(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        fileReferenceRepository.deleteUnreferenced(keys);
+        return fileReferenceRepository.findReferencedKeys(keys);
+    }
+
+    private Retain insertFirst(StoredFile file) {
+        fileReferenceRepository.insertFirstReference(file.key(), file.size(), file.contentType(), LocalDateTime.now());
+        // A queued delete without a count was claimed by the drainer and may be running now
+        if (fileDeletionRepository.existsByObjectKey(file.key())) {
+            fileReferenceRepository.deleteById(file.key());
+            return Retain.DELETING;
+        }
+        return Retain.NEW;
+    }
+
+    private boolean increment(String key) {
+        Integer updated = transactionTemplate.execute(status -> fileReferenceRepository.incrementRefCount(key));
+        return updated != null && updated > 0;
+    }
+}
@@ -0,0 +1,49 @@
+package com.workhub.server.service.impl;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Magic-byte detection for the accepted upload types. The client-supplied content type is never trusted.
+ */
+final class FileSignatures {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PDF_SIGNATURE = {'%', 'P', 'D', 'F', '-'};
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/png", ".png",
+            "image/jpeg", ".jpg",
+            "application/pdf", ".pdf");
+
+    // Leading bytes needed to recognise any supported type
+    static final int MAX_LENGTH = PNG_SIGNATURE.length;
+
+    private FileSignatures() {
+    }
+
+    static String detectContentType(byte[] head, int length) {
+        if (startsWith(head, length, PNG_SIGNATURE)) {
+            return "image/png";
+        }
+        if (startsWith(head, length, JPEG_SIGNATURE)) {
+            return "image/jpeg";
+        }
+        if (startsWith(head, length, PDF_SIGNATURE)) {
+            return "application/pdf";
+        }
+        throw new IllegalArgumentException("File type is not supported");
+    }
+
+    /**
+     * @return key extension for a supported content type, or null when the type is not accepted
+     */
+    static String extensionFor(String contentType) {
+        return EXTENSIONS.get(contentType);
+    }
+
+    private static boolean startsWith(byte[] head, int length, byte[] signature) {
+        return length >= signature.length
+                && Arrays.equals(head, 0, signature.length, signature, 0, signature.length);
+    }
+}
@@ -1,21 +1,25 @@
 package com.workhub.server.service.impl;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.workhub.server.cache.CountCache;
 import com.workhub.server.constant.JobStatus;
+import com.workhub.server.dto.request.BulkJobStatusUpdateRequest;
 import com.workhub.server.dto.request.JobRequest;
 import com.workhub.server.dto.request.JobStatusUpdateRequest;
+import com.workhub.server.dto.request.PageCursor;
+import com.workhub.server.dto.response.BulkStatusUpdateResponse;
 import com.workhub.server.dto.response.JobResponse;
 import com.workhub.server.dto.response.PaginationResponse;
-import com.workhub.server.entity.Company;
 import com.workhub.server.entity.Job;
-import com.workhub.server.entity.User;
 import com.workhub.server.exception.custom.CompanyNotFoundException;
 import com.workhub.server.exception.custom.JobNotFoundException;
 import com.workhub.server.exception.custom.UserNotFoundException;
@@ -23,6 +27,7 @@ import com.workhub.server.mapper.JobMapper;
 import com.workhub.server.repository.CompanyRepository;
 import com.workhub.server.repository.JobRepository;
 import com.workhub.server.repository.UserRepository;
+import com.workhub.server.repository.projection.JobReferences;
 import com.workhub.server.service.JobService;
 
 import lombok.RequiredArgsConstructor;
@@ -36,24 +41,20 @@ public class JobServiceImpl implements JobService {
         private final CompanyRepository companyRepository;
         private final UserRepository userRepository;
         private final JobMapper jobMapper;
+        private final CountCache countCache;
 
         @Override
         @Transactional
         public JobResponse createJob(JobRequest request) {
-                // Verify company exists
-                Company company = companyRepository.findById(request.getCompanyId())
-                                .orElseThrow(() -> new CompanyNotFoundException(request.getCompanyId()));
-
-                // Verify owner exists
-                User owner = userRepository.findById(request.getOwnerId())
-                                .orElseThrow(() -> new UserNotFoundException(request.getOwnerId()));
+                JobReferences references = findReferences(request.getCompanyId(), request.getOwnerId());
 
                 Job job = jobMapper.toEntity(request);
-                job.setCompany(company);
-                job.setOwner(owner);
+                job.setCompany(companyRepository.getReferenceById(request.getCompanyId()));
+                job.setOwner(userRepository.getReferenceById(request.getOwnerId()));
 
                 Job savedJob = jobRepository.save(job);
-                return jobMapper.toResponse(savedJob);
+                countCache.invalidate(CountCache.JOBS);
+                return jobMapper.toResponse(savedJob, references);
         }
 
         @Override
@@ -62,23 +63,20 @@ public class JobServiceImpl implements JobService {
                 Job job = jobRepository.findById(id)
                                 .orElseThrow(() -> new JobNotFoundException(id));
 
-                // If changing company, verify new company exists
+                // Verifies the (possibly new) company and owner in one query
+                JobReferences references = findReferences(request.getCompanyId(), request.getOwnerId());
+
                 if (!job.getCompany().getId().equals(request.getCompanyId())) {
-                        Company newCompany = companyRepository.findById(request.getCompanyId())
-                                        .orElseThrow(() -> new CompanyNotFoundException(request.getCompanyId()));
-                        job.setCompany(newCompany);
+                        job.setCompany(companyRepository.getReferenceById(request.getCompanyId()));
                 }
-
-                // If changing owner, verify new owner exists
                 if (!job.getOwner().getId().equals(request.getOwnerId())) {
-                        User newOwner = userRepository.findById(request.getOwnerId())
-                                        .orElseThrow(() -> new UserNotFoundException(request.getOwnerId()));
-                        job.setOwner(newOwner);
+                        job.setOwner(userRepository.getReferenceById(request.getOwnerId()));
                 }
 
                 jobMapper.updateEntityFromRequest(request, job);
                 Job updatedJob = jobRepository.save(job);
-                return jobMapper.toResponse(updatedJob);
+                countCache.invalidate(CountCache.JOBS);
+                return jobMapper.toResponse(updatedJob, references);
         }
 
         @Override
@@ -89,108 +87,180 @@ public class JobServiceImpl implements JobService {
 
                 job.setStatus(request.getStatus());
                 Job updatedJob = jobRepository.save(job);
-                return jobMapper.toResponse(updatedJob);
+                countCache.invalidate(CountCache.JOBS);
+                return jobMapper.toResponse(updatedJob,
+                                findReferences(job.getCompany().getId(), job.getOwner().getId()));
+        }
+
+        @Override
+        @Transactional
+        public BulkStatusUpdateResponse updateJobStatuses(BulkJobStatusUpdateRequest request) {
+                boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+                if (byIds == (request.getCompanyId() != null)) {
+                        throw new IllegalArgumentException("Provide either ids or companyId");
+                }
+                if (byIds && request.getCurrentStatus() != null) {
+                        throw new IllegalArgumentException("currentStatus can only be combined with companyId");
+                }
+
+                Set<UUID> ids = byIds ? new HashSet<>(request.getIds()) : Set.of();
+                // Auditing listeners do not run for bulk updates, so updatedAt is set here
+                LocalDateTime now = LocalDateTime.now();
+                int updated = byIds
+                                ? jobRepository.updateStatusByIdIn(ids, request.getStatus(), now)
+                                : jobRepository.updateStatusByCompanyId(request.getCompanyId(),
+                                                request.getCurrentStatus(), request.getStatus(), now);
+                if (updated > 0) {
+                        countCache.invalidate(CountCache.JOBS);
+                }
+                return BulkStatusUpdateResponse.builder()
+                                .requested(byIds ? ids.size() : null)
+                                .updated(updated)
+                                .build();
         }
 
         @Override
         public JobResponse getJobById(UUID id) {
-                Job job = jobRepository.findById(id)
+                return jobRepository.findResponseById(id)
                                 .orElseThrow(() -> new JobNotFoundException(id));
-                return jobMapper.toResponse(job);
         }
 
         @Override
-        public PaginationResponse<JobResponse> getAllJobs(int page, int size) {
-                Page<Job> jobs = jobRepository.findAll(PageRequest.of(page, size));
+        public PaginationResponse<JobResponse> getAllJobs(int page, int size, boolean includeTotal) {
+                Slice<JobResponse> jobs = jobRepository.findAllResponses(PageRequest.of(page, size));
+
+                return PaginationResponse.of(jobs, includeTotal, () -> countCache.get(CountCache.JOBS,
+                                "all", jobRepository::count));
+        }
+
+        @Override
+        public PaginationResponse<JobResponse> getAllJobs(PageCursor after, int limit) {
+                Slice<JobResponse> jobs = jobRepository.findAllResponsesAfter(
+                                after.createdAt(), after.id(), PageRequest.of(0, limit));
+
+                return PaginationResponse.ofSlice(jobs, JobServiceImpl::cursorOf);
+        }
+
+        @Override
+        public PaginationResponse<JobResponse> getJobsByCompany(UUID companyId, int page, int size,
+                        boolean includeTotal) {
+                // Verify company exists
+                if (!companyRepository.existsById(companyId)) {
+                        throw new CompanyNotFoundException(companyId);
+                }
+
+                Slice<JobResponse> jobs = jobRepository.findByCompanyId(companyId, PageRequest.of(page, size));
 
-                return new PaginationResponse<>(
-                                jobs.stream()
-                                                .map(jobMapper::toResponse)
-                                                .collect(Collectors.toList()),
-                                page,
-                                size,
-                                jobs.getTotalElements(),
-                                jobs.getTotalPages());
+                return PaginationResponse.of(jobs, includeTotal, () -> countCache.get(CountCache.JOBS,
+                                "company:" + companyId, () -> jobRepository.countByCompanyId(companyId)));
         }
 
         @Override
-        public PaginationResponse<JobResponse> getJobsByCompany(UUID companyId, int page, int size) {
+        public PaginationResponse<JobResponse> getJobsByCompany(UUID companyId, PageCursor after, int limit) {
                 // Verify company exists
                 if (!companyRepository.existsById(companyId)) {
                         throw new CompanyNotFoundException(companyId);
                 }
 
-                Page<Job> jobs = jobRepository.findByCompanyId(companyId, PageRequest.of(page, size));
+                Slice<JobResponse> jobs = jobRepository.findByCompanyIdAfter(
+                                companyId, after.createdAt(), after.id(), PageRequest.of(0, limit));
 
-                return new PaginationResponse<>(
-                                jobs.stream()
-                                                .map(jobMapper::toResponse)
-                                                .collect(Collectors.toList()),
-                                page,
-                                size,
-                                jobs.getTotalElements(),
-                                jobs.getTotalPages());
+                return PaginationResponse.ofSlice(jobs, JobServiceImpl::cursorOf);
         }
 
         @Override
-        public PaginationResponse<JobResponse> getJobsByOwner(UUID ownerId, int page, int size) {
+        public PaginationResponse<JobResponse> getJobsByOwner(UUID ownerId, int page, int size, boolean includeTotal) {
                 // Verify owner exists
                 if (!userRepository.existsById(ownerId)) {
                         throw new UserNotFoundException(ownerId);
                 }
 
-                Page<Job> jobs = jobRepository.findByOwnerId(ownerId, PageRequest.of(page, size));
+                Slice<JobResponse> jobs = jobRepository.findByOwnerId(ownerId, PageRequest.of(page, size));
 
-                return new PaginationResponse<>(
-                                jobs.stream()
-                                                .map(jobMapper::toResponse)
-                                                .collect(Collectors.toList()),
-                                page,
-                                size,
-                                jobs.getTotalElements(),
-                                jobs.getTotalPages());
+                return PaginationResponse.of(jobs, includeTotal, () -> countCache.get(CountCache.JOBS,
+                                "owner:" + ownerId, () -> jobRepository.countByOwnerId(ownerId)));
         }
 
         @Override
-        public PaginationResponse<JobResponse> getJobsByStatus(JobStatus status, int page, int size) {
-                Page<Job> jobs = jobRepository.findByStatus(status, PageRequest.of(page, size));
+        public PaginationResponse<JobResponse> getJobsByOwner(UUID ownerId, PageCursor after, int limit) {
+                // Verify owner exists
+                if (!userRepository.existsById(ownerId)) {
+                        throw new UserNotFoundException(ownerId);
+                }
+
+                Slice<JobResponse> jobs = jobRepository.findByOwnerIdAfter(
+                                ownerId, after.createdAt(), after.id(), PageRequest.of(0, limit));
+
+                return PaginationResponse.ofSlice(jobs, JobServiceImpl::cursorOf);
+        }
 
-                return new PaginationResponse<>(
-                                jobs.stream()
-                                                .map(jobMapper::toResponse)
-                                                .collect(Collectors.toList()),
-                                page,
-                                size,
-                                jobs.getTotalElements(),
-                                jobs.getTotalPages());
+        @Override
+        public PaginationResponse<JobResponse> getJobsByStatus(JobStatus status, int page, int size,
+                        boolean includeTotal) {
+                Slice<JobResponse> jobs = jobRepository.findByStatus(status, PageRequest.of(page, size));
+
+                return PaginationResponse.of(jobs, includeTotal, () -> countCache.get(CountCache.JOBS,
+                                "status:" + status, () -> jobRepository.countByStatus(status)));
+        }
+
+        @Override
+        public PaginationResponse<JobResponse> getJobsByStatus(JobStatus status, PageCursor after, int limit) {
+                Slice<JobResponse> jobs = jobRepository.findByStatusAfter(
+                                status, after.createdAt(), after.id(), PageRequest.of(0, limit));
+
+                return PaginationResponse.ofSlice(jobs, JobServiceImpl::cursorOf);
         }
 
         @Override
         public PaginationResponse<JobResponse> getJobsByCompanyAndStatus(UUID companyId, JobStatus status, int page,
-                        int size) {
+                        int size, boolean includeTotal) {
                 // Verify company exists
                 if (!companyRepository.existsById(companyId)) {
                         throw new CompanyNotFoundException(companyId);
                 }
 
-                Page<Job> jobs = jobRepository.findByCompanyIdAndStatus(companyId, status, PageRequest.of(page, size));
+                Slice<JobResponse> jobs = jobRepository.findByCompanyIdAndStatus(companyId, status,
+                                PageRequest.of(page, size));
 
-                return new PaginationResponse<>(
-                                jobs.stream()
-                                                .map(jobMapper::toResponse)
-                                                .collect(Collectors.toList()),
-                                page,
-                                size,
-                                jobs.getTotalElements(),
-                                jobs.getTotalPages());
+                return PaginationResponse.of(jobs, includeTotal, () -> countCache.get(CountCache.JOBS,
+                                "company:" + companyId + ":status:" + status,
+                                                () -> jobRepository.countByCompanyIdAndStatus(companyId, status)));
+        }
+
+        @Override
+        public PaginationResponse<JobResponse> getJobsByCompanyAndStatus(UUID companyId, JobStatus status,
+                        PageCursor after, int limit) {
+                // Verify company exists
+                if (!companyRepository.existsById(companyId)) {
+                        throw new CompanyNotFoundException(companyId);
+                }
+
+                Slice<JobResponse> jobs = jobRepository.findByCompanyIdAndStatusAfter(
+                                companyId, status, after.createdAt(), after.id(), PageRequest.of(0, limit));
+
+                return PaginationResponse.ofSlice(jobs, JobServiceImpl::cursorOf);
         }
 
         @Override
         @Transactional
         public void deleteJob(UUID id) {
-                jobRepository.findById(id)
-                                .orElseThrow(() -> new JobNotFoundException(id));
+                if (jobRepository.deleteOneById(id) == 0) {
+                        throw new JobNotFoundException(id);
+                }
+                countCache.invalidate(CountCache.JOBS);
+        }
+
+        private JobReferences findReferences(UUID companyId, UUID ownerId) {
+                return jobRepository.findReferences(companyId, ownerId).orElseThrow(() -> {
+                        // Only on failure: find out which reference is missing
+                        if (!companyRepository.existsById(companyId)) {
+                                return new CompanyNotFoundException(companyId);
+                        }
+                        return new UserNotFoundException(ownerId);
+                });
+        }
 
-                jobRepository.deleteById(id);
+        private static PageCursor cursorOf(JobResponse response) {
+                return new PageCursor(response.getCreatedAt(), response.getId());
         }
 }
@@ -0,0 +1,50 @@
+package com.workhub.server.service.impl;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.workhub.server.exception.custom.UploadCapacityExceededException;
+
+/**
+ * Fixed set of part-sized upload buffers. At most {@code buffers} exist at once; they are created on
+ * first use and reused afterwards, so streaming uploads never hold more than buffers x size bytes.
+ */
+final class PartBufferPool {
+
+    private final int bufferSize;
+    private final Semaphore permits;
+    private final Queue<byte[]> free = new ConcurrentLinkedQueue<>();
+
+    PartBufferPool(int bufferSize, int buffers) {
+        if (buffers < 1) {
+            throw new IllegalArgumentException("At least one upload part buffer is required");
+        }
+        this.bufferSize = bufferSize;
+        this.permits = new Semaphore(buffers, true);
+    }
+
+    int bufferSize() {
+        return bufferSize;
+    }
+
+    byte[] acquire(Duration wait) {
+        try {
+            if (!permits.tryAcquire(wait.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new UploadCapacityExceededException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UploadCapacityExceededException();
+        }
+        byte[] buffer = free.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    void release(byte[] buffer) {
+        free.offer(buffer);
+        permits.release();
+    }
+}
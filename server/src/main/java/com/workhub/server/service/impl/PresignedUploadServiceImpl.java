@@ -0,0 +1,54 @@
+package com.workhub.server.service.impl;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.workhub.server.entity.PendingUpload;
+import com.workhub.server.repository.PendingUploadRepository;
+import com.workhub.server.service.FileDeletionService;
+import com.workhub.server.service.FileStorageService;
+import com.workhub.server.service.PresignedUploadService;
+import com.workhub.server.service.PresignedUrl;
+import com.workhub.server.service.StoredFile;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class PresignedUploadServiceImpl implements PresignedUploadService {
+
+    private final PendingUploadRepository pendingUploadRepository;
+    private final FileStorageService fileStorageService;
+    private final FileDeletionService fileDeletionService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional
+    public PresignedUrl issue(String folder, String contentType, long size) {
+        PresignedUrl presigned = fileStorageService.presignUpload(folder, contentType, size);
+        pendingUploadRepository.save(new PendingUpload(presigned.key(), contentType, size, null));
+        return presigned;
+    }
+
+    @Override
+    public StoredFile complete(String key) {
+        PendingUpload pending = pendingUploadRepository.findById(key)
+                .orElseThrow(() -> new IllegalArgumentException("No pending upload for key: " + key));
+
+        // Storage is checked outside any transaction; a missing object keeps the key pending for a retry
+        StoredFile stored;
+        try {
+            stored = fileStorageService.completeUpload(key, pending.getContentType());
+        } catch (IllegalArgumentException e) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (pendingUploadRepository.deleteByObjectKey(key) > 0) {
+                    fileDeletionService.enqueue(key);
+                }
+            });
+            throw e;
+        }
+        transactionTemplate.executeWithoutResult(status -> pendingUploadRepository.deleteByObjectKey(key));
+        return stored;
+    }
+}
@@ -0,0 +1,190 @@
+package com.workhub.server.service.impl;
+
+import com.workhub.server.config.AwsProperties;
+import com.workhub.server.service.AsyncFileStorageService;
+import com.workhub.server.service.FileReferenceService;
+import com.workhub.server.service.FileReferenceService.Retain;
+import com.workhub.server.service.FileStorageService;
+import com.workhub.server.service.StoredFile;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3AsyncFileStorageService implements AsyncFileStorageService {
+
+    private final S3AsyncClient s3AsyncClient;
+    private final AwsProperties awsProperties;
+    private final MeterRegistry meterRegistry;
+    private final FileReferenceService fileReferenceService;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Reads spooled multipart files into the request body; never waits on S3 itself
+    private ThreadPoolTaskExecutor bodyReader;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("s3.client.calls.active", inFlight, AtomicInteger::get)
+                .description("Async S3 calls started and not yet completed")
+                .register(meterRegistry);
+
+        int threads = awsProperties.getAsync().getMaxConcurrency();
+        bodyReader = new ThreadPoolTaskExecutor();
+        bodyReader.setCorePoolSize(threads);
+        bodyReader.setMaxPoolSize(threads);
+        bodyReader.setThreadNamePrefix("s3-body-");
+        bodyReader.initialize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        bodyReader.shutdown();
+    }
+
+    @Override
+    public CompletableFuture<StoredFile> upload(MultipartFile file, String folder) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("File must not be empty");
+        }
+        if (file.getSize() > FileStorageService.MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("File size must not exceed 10 MB");
+        }
+
+        String contentType;
+        try (InputStream head = file.getInputStream()) {
+            byte[] leading = head.readNBytes(FileSignatures.MAX_LENGTH);
+            contentType = FileSignatures.detectContentType(leading, leading.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read uploaded file", e);
+        }
+        String extension = FileSignatures.extensionFor(contentType);
+
+        if (!awsProperties.getS3().isContentAddressed()) {
+            return put(file, String.format("%s/%s%s", folder, UUID.randomUUID(), extension), contentType);
+        }
+        // The servlet container has already spooled the file, so hashing it is a local read
+        String key = ContentAddress.key(folder, sha256(file), extension);
+        StoredFile stored = new StoredFile(key, file.getSize(), contentType);
+        // Counted before anything is skipped, so a queued delete cannot remove an object this upload reuses
+        Retain retain = fileReferenceService.retain(stored);
+        if (retain == Retain.DELETING) {
+            return put(file, String.format("%s/%s%s", folder, UUID.randomUUID(), extension), contentType);
+        }
+        CompletableFuture<Boolean> reusable = retain == Retain.NEW
+                ? CompletableFuture.completedFuture(false)
+                : exists(key);
+        return reusable.thenComposeAsync(
+                        found -> found ? CompletableFuture.completedFuture(stored) : put(file, key, contentType),
+                        bodyReader.getThreadPoolExecutor())
+                .whenCompleteAsync((result, error) -> {
+                    if (error != null) {
+                        fileReferenceService.release(key);
+                    }
+                }, bodyReader.getThreadPoolExecutor());
+    }
+
+    private CompletableFuture<StoredFile> put(MultipartFile file, String key, String contentType) {
+        InputStream body;
+        try {
+            body = file.getInputStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read uploaded file", e);
+        }
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(awsProperties.getS3().getBucket())
+                .key(key)
+                .contentType(contentType)
+                .contentLength(file.getSize())
+                .build();
+
+        return timed("PutObject", () -> s3AsyncClient.putObject(putRequest,
+                        AsyncRequestBody.fromInputStream(body, file.getSize(), bodyReader.getThreadPoolExecutor())))
+                .whenComplete((response, error) -> closeQuietly(body))
+                .thenApply(response -> new StoredFile(key, file.getSize(), contentType));
+    }
+
+    private CompletableFuture<Boolean> exists(String key) {
+        HeadObjectRequest headRequest = HeadObjectRequest.builder()
+                .bucket(awsProperties.getS3().getBucket())
+                .key(key)
+                .build();
+        return timed("HeadObject", () -> s3AsyncClient.headObject(headRequest))
+                .handle((response, error) -> {
+                    if (error == null) {
+                        return true;
+                    }
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof NoSuchKeyException) {
+                        return false;
+                    }
+                    throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                });
+    }
+
+    private static byte[] sha256(MultipartFile file) {
+        MessageDigest digest = ContentAddress.sha256();
+        try (InputStream content = new DigestInputStream(file.getInputStream(), digest)) {
+            content.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read uploaded file", e);
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Tracks the call as in flight until its future completes and records its latency by outcome.
+     */
+    private <T> CompletableFuture<T> timed(String operation, Supplier<CompletableFuture<T>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        inFlight.incrementAndGet();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, error) -> {
+            inFlight.decrementAndGet();
+            sample.stop(Timer.builder("s3.client.calls")
+                    .description("Latency of async S3 calls")
+                    .tag("operation", operation)
+                    .tag("outcome", error == null ? "success" : "error")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        });
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            log.debug("Failed to close upload body", e);
+        }
+    }
+}
@@ -1,57 +1,210 @@
 package com.workhub.server.service.impl;
 
 import com.workhub.server.config.AwsProperties;
+import com.workhub.server.exception.custom.UploadNotFoundException;
+import com.workhub.server.service.FileReferenceService;
+import com.workhub.server.service.FileReferenceService.Retain;
 import com.workhub.server.service.FileStorageService;
-import lombok.RequiredArgsConstructor;
+import com.workhub.server.service.PresignedUrl;
+import com.workhub.server.service.StoredFile;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.awscore.presigner.PresignedRequest;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class S3FileStorageService implements FileStorageService {
 
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+    // Uploads up to this size never touch the part buffer pool
+    private static final int SMALL_UPLOAD_LIMIT = 256 * 1024;
+
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
     private final AwsProperties awsProperties;
+    private final FileReferenceService fileReferenceService;
+    private final PartBufferPool partBuffers;
+
+    public S3FileStorageService(S3Client s3Client, S3Presigner s3Presigner, AwsProperties awsProperties,
+            FileReferenceService fileReferenceService) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.awsProperties = awsProperties;
+        this.fileReferenceService = fileReferenceService;
+        this.partBuffers = new PartBufferPool((int) awsProperties.getS3().getUploadPartSize().toBytes(),
+                awsProperties.getS3().getUploadPartBuffers());
+    }
 
     @Override
     public String upload(MultipartFile file, String folder) {
-        validateFile(file);
-
-        String originalFilename = file.getOriginalFilename();
-        String extension = (originalFilename != null && originalFilename.contains("."))
-                ? originalFilename.substring(originalFilename.lastIndexOf('.'))
-                : "";
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("File must not be empty");
+        }
+        if (file.getSize() > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("File size must not exceed 10 MB");
+        }
 
-        String key = String.format("%s/%s%s", folder, UUID.randomUUID(), extension);
+        try (InputStream content = file.getInputStream()) {
+            return upload(content, folder).key();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to upload file to S3", e);
+        }
+    }
 
+    @Override
+    public StoredFile upload(InputStream content, String folder) {
         try {
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(awsProperties.getS3().getBucket())
-                    .key(key)
-                    .contentType(file.getContentType())
-                    .contentLength(file.getSize())
-                    .build();
+            // Small files are read into an array sized to their content; larger ones take a pooled part buffer
+            byte[] head = content.readNBytes(Math.min(SMALL_UPLOAD_LIMIT, partBuffers.bufferSize()));
+            if (head.length == 0) {
+                throw new IllegalArgumentException("File must not be empty");
+            }
+            if (head.length < SMALL_UPLOAD_LIMIT && head.length < partBuffers.bufferSize()) {
+                return putWhole(folder, head, head.length);
+            }
 
-            s3Client.putObject(
-                    putRequest,
-                    RequestBody.fromInputStream(file.getInputStream(), file.getSize())
-            );
-
-            return key;
+            byte[] buffer = partBuffers.acquire(awsProperties.getS3().getUploadPartBufferWait());
+            try {
+                System.arraycopy(head, 0, buffer, 0, head.length);
+                int length = head.length + content.readNBytes(buffer, head.length, buffer.length - head.length);
+                if (length < buffer.length) {
+                    return putWhole(folder, buffer, length);
+                }
+                return putMultipart(folder, content, buffer, length);
+            } finally {
+                partBuffers.release(buffer);
+            }
         } catch (IOException e) {
             throw new RuntimeException("Failed to upload file to S3", e);
         }
     }
 
+    @Override
+    public PresignedUrl presignUpload(String folder, String contentType, long size) {
+        String extension = FileSignatures.extensionFor(contentType);
+        if (extension == null) {
+            throw new IllegalArgumentException("File type is not supported");
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("File must not be empty");
+        }
+        if (size > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("File size must not exceed 10 MB");
+        }
+
+        String key = String.format("%s/%s%s", folder, UUID.randomUUID(), extension);
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(awsProperties.getS3().getBucket())
+                .key(key)
+                .contentType(contentType)
+                .contentLength(size)
+                .build();
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(awsProperties.getS3().getPresignTtl())
+                .putObjectRequest(putRequest)
+                .build());
+        return toPresignedUrl(key, presigned);
+    }
+
+    @Override
+    public PresignedUrl presignDownload(String key) {
+        GetObjectRequest getRequest = GetObjectRequest.builder()
+                .bucket(awsProperties.getS3().getBucket())
+                .key(key)
+                .build();
+        PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                .signatureDuration(awsProperties.getS3().getPresignTtl())
+                .getObjectRequest(getRequest)
+                .build());
+        return toPresignedUrl(key, presigned);
+    }
+
+    @Override
+    public StoredFile completeUpload(String key, String contentType) {
+        String bucket = awsProperties.getS3().getBucket();
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (NoSuchKeyException e) {
+            throw new UploadNotFoundException(key);
+        }
+
+        if (head.contentLength() == 0) {
+            throw new IllegalArgumentException("File must not be empty");
+        }
+        if (head.contentLength() > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("File size must not exceed 10 MB");
+        }
+        // Only the leading bytes are read to check the content matches the signed content type
+        byte[] leading = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range("bytes=0-" + (FileSignatures.MAX_LENGTH - 1))
+                .build()).asByteArray();
+        String detected = FileSignatures.detectContentType(leading, leading.length);
+        if (!detected.equals(contentType)) {
+            throw new IllegalArgumentException("File content does not match its declared type");
+        }
+        return new StoredFile(key, head.contentLength(), detected);
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(awsProperties.getS3().getBucket())
+                .key(key)
+                .build());
+    }
+
+    @Override
+    public void store(String key, byte[] content, String contentType) {
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(awsProperties.getS3().getBucket())
+                .key(key)
+                .contentType(contentType)
+                .build();
+        s3Client.putObject(putRequest, RequestBody.fromBytes(content));
+    }
+
     @Override
     public void delete(String key) {
         try {
@@ -72,35 +225,209 @@ public class S3FileStorageService implements FileStorageService {
         }
     }
 
-    // validate file size and type in the request
-    private void validateFile(MultipartFile file) {
-        if (file.isEmpty()) {
-            throw new IllegalArgumentException("File must not be empty");
+    @Override
+    public Set<String> deleteAll(Collection<String> keys) {
+        String bucket = awsProperties.getS3().getBucket();
+        List<String> pending = List.copyOf(keys);
+        Set<String> failed = new HashSet<>();
+        // DeleteObjects accepts at most 1000 keys per request
+        for (int from = 0; from < pending.size(); from += MAX_KEYS_PER_DELETE) {
+            List<String> batch = pending.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, pending.size()));
+            DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder()
+                            .objects(batch.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                            .quiet(true)
+                            .build())
+                    .build();
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(deleteRequest);
+                response.errors().forEach(error -> {
+                    log.warn("Failed to delete object from S3 - Bucket: {}, Key: {}, Code: {}",
+                            bucket, error.key(), error.code());
+                    failed.add(error.key());
+                });
+            } catch (RuntimeException e) {
+                log.error("Failed to delete {} objects from S3 - Bucket: {}", batch.size(), bucket, e);
+                failed.addAll(batch);
+            }
+        }
+        return failed;
+    }
+
+    // The whole file is in the buffer, so its hash is known before anything is sent
+    private StoredFile putWhole(String folder, byte[] buffer, int length) {
+        String contentType = FileSignatures.detectContentType(buffer, length);
+        String extension = FileSignatures.extensionFor(contentType);
+        String key = String.format("%s/%s%s", folder, UUID.randomUUID(), extension);
+        if (!awsProperties.getS3().isContentAddressed()) {
+            putObject(key, contentType, buffer, length);
+            return new StoredFile(key, length, contentType);
         }
 
-        // Max 10 MB
-        long maxSizeBytes = 10L * 1024 * 1024;
-        if (file.getSize() > maxSizeBytes) {
+        MessageDigest digest = ContentAddress.sha256();
+        digest.update(buffer, 0, length);
+        StoredFile stored = new StoredFile(ContentAddress.key(folder, digest.digest(), extension), length, contentType);
+        // Counted before anything is skipped, so a queued delete cannot remove an object this upload reuses
+        Retain retain = fileReferenceService.retain(stored);
+        if (retain == Retain.DELETING) {
+            putObject(key, contentType, buffer, length);
+            return new StoredFile(key, length, contentType);
+        }
+        if (retain == Retain.EXISTING && exists(stored.key())) {
+            log.debug("Skipping upload of {}, identical content is already stored", stored.key());
+            return stored;
+        }
+        try {
+            putObject(stored.key(), contentType, buffer, length);
+        } catch (RuntimeException e) {
+            fileReferenceService.release(stored.key());
+            throw e;
+        }
+        return stored;
+    }
+
+    private StoredFile putMultipart(String folder, InputStream content, byte[] buffer, int firstLength)
+            throws IOException {
+        String contentType = FileSignatures.detectContentType(buffer, firstLength);
+        String extension = FileSignatures.extensionFor(contentType);
+        MessageDigest digest = awsProperties.getS3().isContentAddressed() ? ContentAddress.sha256() : null;
+        String uploadKey = String.format("%s/%s%s", folder, UUID.randomUUID(), extension);
+        long size = multipartUpload(uploadKey, contentType, content, buffer, firstLength, digest);
+        if (digest == null) {
+            return new StoredFile(uploadKey, size, contentType);
+        }
+        // The hash of a multipart upload is only known once every part is sent
+        return moveToContentKey(uploadKey, new StoredFile(ContentAddress.key(folder, digest.digest(), extension),
+                size, contentType));
+    }
+
+    private void putObject(String key, String contentType, byte[] buffer, int length) {
+        if (length > MAX_FILE_SIZE) {
             throw new IllegalArgumentException("File size must not exceed 10 MB");
         }
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(awsProperties.getS3().getBucket())
+                .key(key)
+                .contentType(contentType)
+                .contentLength((long) length)
+                .build();
+        s3Client.putObject(putRequest,
+                RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length));
+    }
 
-        String contentType = file.getContentType();
-        if (contentType == null) {
-            throw new IllegalArgumentException("File type is not supported");
+    /**
+     * Sends the buffer as part 1, then refills it for each following part, so memory stays at one part
+     * however large the upload. The upload is aborted if anything fails or the size limit is exceeded.
+     */
+    private long multipartUpload(String key, String contentType, InputStream content, byte[] buffer, int firstLength,
+            MessageDigest digest) throws IOException {
+        String bucket = awsProperties.getS3().getBucket();
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        List<CompletedPart> parts = new ArrayList<>();
+        long size = 0;
+        try {
+            int length = firstLength;
+            while (length > 0) {
+                size += length;
+                if (size > MAX_FILE_SIZE) {
+                    throw new IllegalArgumentException("File size must not exceed 10 MB");
+                }
+                int partNumber = parts.size() + 1;
+                UploadPartResponse part = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) length)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length));
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(part.eTag()).build());
+                if (digest != null) {
+                    digest.update(buffer, 0, length);
+                }
+                length = content.readNBytes(buffer, 0, buffer.length);
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            return size;
+        } catch (IOException | RuntimeException e) {
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build());
+            } catch (RuntimeException abortFailure) {
+                e.addSuppressed(abortFailure);
+            }
+            throw e;
         }
+    }
 
-        boolean allowed = switch (contentType) {
-            case "image/png",
-                 "image/jpeg",
-                 "image/jpg",
-                 "application/pdf" -> true;
-            default -> false;
-        };
+    // Server-side copy unless identical content already exists; the bytes are not sent again either way
+    private StoredFile moveToContentKey(String uploadKey, StoredFile stored) {
+        String bucket = awsProperties.getS3().getBucket();
+        Retain retain = fileReferenceService.retain(stored);
+        if (retain == Retain.DELETING) {
+            // Identical content is being deleted right now: this upload keeps the key it was sent under
+            return new StoredFile(uploadKey, stored.size(), stored.contentType());
+        }
+        try {
+            if (retain == Retain.NEW || !exists(stored.key())) {
+                s3Client.copyObject(CopyObjectRequest.builder()
+                        .sourceBucket(bucket)
+                        .sourceKey(uploadKey)
+                        .destinationBucket(bucket)
+                        .destinationKey(stored.key())
+                        .build());
+            }
+        } catch (RuntimeException e) {
+            fileReferenceService.release(stored.key());
+            deleteTemporary(uploadKey);
+            throw e;
+        }
+        deleteTemporary(uploadKey);
+        return stored;
+    }
 
-        if (!allowed) {
-            throw new IllegalArgumentException("File type is not supported");
+    private void deleteTemporary(String uploadKey) {
+        String bucket = awsProperties.getS3().getBucket();
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(uploadKey).build());
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete temporary upload from S3 - Bucket: {}, Key: {}", bucket, uploadKey, e);
         }
     }
-}
 
+    private boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(awsProperties.getS3().getBucket()).key(key).build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
 
+    private static PresignedUrl toPresignedUrl(String key, PresignedRequest presigned) {
+        // Host is set by the HTTP client itself; everything else must be sent as signed
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return new PresignedUrl(key, presigned.url().toString(), presigned.httpRequest().method().name(),
+                headers, presigned.expiration());
+    }
+}
@@ -1,19 +1,17 @@
 package com.workhub.server.service.impl;
 
 import java.util.UUID;
-import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.workhub.server.dto.request.PageCursor;
 import com.workhub.server.dto.request.TaskCommentRequest;
 import com.workhub.server.dto.response.PaginationResponse;
 import com.workhub.server.dto.response.TaskCommentResponse;
-import com.workhub.server.entity.Task;
 import com.workhub.server.entity.TaskComment;
-import com.workhub.server.entity.User;
 import com.workhub.server.exception.custom.TaskCommentNotFoundException;
 import com.workhub.server.exception.custom.TaskNotFoundException;
 import com.workhub.server.exception.custom.UserNotFoundException;
@@ -21,6 +19,7 @@ import com.workhub.server.mapper.TaskCommentMapper;
 import com.workhub.server.repository.TaskCommentRepository;
 import com.workhub.server.repository.TaskRepository;
 import com.workhub.server.repository.UserRepository;
+import com.workhub.server.repository.projection.TaskCommentReferences;
 import com.workhub.server.service.TaskCommentService;
 
 import lombok.RequiredArgsConstructor;
@@ -38,20 +37,19 @@ public class TaskCommentServiceImpl implements TaskCommentService {
     @Override
     @Transactional
     public TaskCommentResponse createComment(TaskCommentRequest request) {
-        // Verify task exists
-        Task task = taskRepository.findById(request.getTaskId())
-                .orElseThrow(() -> new TaskNotFoundException(request.getTaskId()));
-
-        // Verify user exists
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new UserNotFoundException(request.getUserId()));
+        // Verifies task and user in one query and fetches the names for the response
+        TaskCommentReferences references = taskCommentRepository
+                .findReferences(request.getTaskId(), request.getUserId())
+                .orElseThrow(() -> taskRepository.existsById(request.getTaskId())
+                        ? new UserNotFoundException(request.getUserId())
+                        : new TaskNotFoundException(request.getTaskId()));
 
         TaskComment comment = taskCommentMapper.toEntity(request);
-        comment.setTask(task);
-        comment.setUser(user);
+        comment.setTask(taskRepository.getReferenceById(request.getTaskId()));
+        comment.setUser(userRepository.getReferenceById(request.getUserId()));
 
         TaskComment savedComment = taskCommentRepository.save(comment);
-        return taskCommentMapper.toResponse(savedComment);
+        return taskCommentMapper.toResponse(savedComment, references);
     }
 
     @Override
@@ -62,64 +60,87 @@ public class TaskCommentServiceImpl implements TaskCommentService {
     }
 
     @Override
-    public PaginationResponse<TaskCommentResponse> getAllComments(int page, int size) {
-        Page<TaskComment> comments = taskCommentRepository.findAll(PageRequest.of(page, size));
-
-        return new PaginationResponse<>(
-                comments.stream()
-                        .map(taskCommentMapper::toResponse)
-                        .collect(Collectors.toList()),
-                page,
-                size,
-                comments.getTotalElements(),
-                comments.getTotalPages());
+    public PaginationResponse<TaskCommentResponse> getAllComments(int page, int size, boolean includeTotal) {
+        Slice<TaskComment> comments = taskCommentRepository.findAllBy(PageRequest.of(page, size));
+
+        return PaginationResponse.of(comments.map(taskCommentMapper::toResponse), includeTotal,
+                taskCommentRepository::count);
+    }
+
+    @Override
+    public PaginationResponse<TaskCommentResponse> getAllComments(PageCursor after, int limit) {
+        Slice<TaskComment> comments = taskCommentRepository.findAllAfter(
+                after.createdAt(), after.id(), PageRequest.of(0, limit));
+
+        return PaginationResponse.ofSlice(comments.map(taskCommentMapper::toResponse),
+                TaskCommentServiceImpl::cursorOf);
+    }
+
+    @Override
+    public PaginationResponse<TaskCommentResponse> getCommentsByTask(UUID taskId, int page, int size,
+            boolean includeTotal) {
+        // Verify task exists
+        if (!taskRepository.existsById(taskId)) {
+            throw new TaskNotFoundException(taskId);
+        }
+
+        Slice<TaskComment> comments = taskCommentRepository.findByTaskId(taskId, PageRequest.of(page, size));
+
+        return PaginationResponse.of(comments.map(taskCommentMapper::toResponse), includeTotal,
+                () -> taskCommentRepository.countByTaskId(taskId));
     }
 
     @Override
-    public PaginationResponse<TaskCommentResponse> getCommentsByTask(UUID taskId, int page, int size) {
+    public PaginationResponse<TaskCommentResponse> getCommentsByTask(UUID taskId, PageCursor after, int limit) {
         // Verify task exists
         if (!taskRepository.existsById(taskId)) {
             throw new TaskNotFoundException(taskId);
         }
 
-        Page<TaskComment> comments = taskCommentRepository.findByTaskId(taskId, PageRequest.of(page, size));
+        Slice<TaskComment> comments = taskCommentRepository.findByTaskIdAfter(
+                taskId, after.createdAt(), after.id(), PageRequest.of(0, limit));
 
-        return new PaginationResponse<>(
-                comments.stream()
-                        .map(taskCommentMapper::toResponse)
-                        .collect(Collectors.toList()),
-                page,
-                size,
-                comments.getTotalElements(),
-                comments.getTotalPages());
+        return PaginationResponse.ofSlice(comments.map(taskCommentMapper::toResponse),
+                TaskCommentServiceImpl::cursorOf);
     }
 
     @Override
-    public PaginationResponse<TaskCommentResponse> getCommentsByUser(UUID userId, int page, int size) {
+    public PaginationResponse<TaskCommentResponse> getCommentsByUser(UUID userId, int page, int size,
+            boolean includeTotal) {
         // Verify user exists
         if (!userRepository.existsById(userId)) {
             throw new UserNotFoundException(userId);
         }
 
-        Page<TaskComment> comments = taskCommentRepository.findByUserId(userId, PageRequest.of(page, size));
+        Slice<TaskComment> comments = taskCommentRepository.findByUserId(userId, PageRequest.of(page, size));
 
-        return new PaginationResponse<>(
-                comments.stream()
-                        .map(taskCommentMapper::toResponse)
-                        .collect(Collectors.toList()),
-                page,
-                size,
-                comments.getTotalElements(),
-                comments.getTotalPages());
+        return PaginationResponse.of(comments.map(taskCommentMapper::toResponse), includeTotal,
+                () -> taskCommentRepository.countByUserId(userId));
+    }
+
+    @Override
+    public PaginationResponse<TaskCommentResponse> getCommentsByUser(UUID userId, PageCursor after, int limit) {
+        // Verify user exists
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
+
+        Slice<TaskComment> comments = taskCommentRepository.findByUserIdAfter(
+                userId, after.createdAt(), after.id(), PageRequest.of(0, limit));
+
+        return PaginationResponse.ofSlice(comments.map(taskCommentMapper::toResponse),
+                TaskCommentServiceImpl::cursorOf);
     }
 
     @Override
     @Transactional
     public void deleteComment(UUID id) {
-        taskCommentRepository.findById(id)
-                .orElseThrow(() -> new TaskCommentNotFoundException(id));
+        if (taskCommentRepository.deleteOneById(id) == 0) {
+            throw new TaskCommentNotFoundException(id);
+        }
+    }
 
-        taskCommentRepository.deleteById(id);
+    private static PageCursor cursorOf(TaskCommentResponse response) {
+        return new PageCursor(response.getCreatedAt(), response.getId());
     }
 }
-
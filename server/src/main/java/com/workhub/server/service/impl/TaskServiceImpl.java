@@ -1,22 +1,31 @@
 package com.workhub.server.service.impl;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.workhub.server.cache.CountCache;
 import com.workhub.server.constant.TaskStatus;
+import com.workhub.server.dto.request.BulkTaskRequest;
+import com.workhub.server.dto.request.BulkTaskStatusUpdateRequest;
+import com.workhub.server.dto.request.PageCursor;
 import com.workhub.server.dto.request.TaskRequest;
 import com.workhub.server.dto.request.TaskStatusUpdateRequest;
+import com.workhub.server.dto.response.BulkStatusUpdateResponse;
+import com.workhub.server.dto.response.BulkTaskResponse;
 import com.workhub.server.dto.response.PaginationResponse;
 import com.workhub.server.dto.response.TaskResponse;
-import com.workhub.server.entity.Company;
-import com.workhub.server.entity.Job;
 import com.workhub.server.entity.Task;
-import com.workhub.server.entity.User;
 import com.workhub.server.exception.custom.CompanyNotFoundException;
 import com.workhub.server.exception.custom.JobNotFoundException;
 import com.workhub.server.exception.custom.TaskNotFoundException;
@@ -26,6 +35,7 @@ import com.workhub.server.repository.CompanyRepository;
 import com.workhub.server.repository.JobRepository;
 import com.workhub.server.repository.TaskRepository;
 import com.workhub.server.repository.UserRepository;
+import com.workhub.server.repository.projection.TaskReferences;
 import com.workhub.server.service.TaskService;
 
 import lombok.RequiredArgsConstructor;
@@ -40,29 +50,69 @@ public class TaskServiceImpl implements TaskService {
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final TaskMapper taskMapper;
+    private final CountCache countCache;
 
     @Override
     @Transactional
     public TaskResponse createTask(TaskRequest request) {
-        // Verify company exists
-        Company company = companyRepository.findById(request.getCompanyId())
-                .orElseThrow(() -> new CompanyNotFoundException(request.getCompanyId()));
-
-        // Verify job exists
-        Job job = jobRepository.findById(request.getJobId())
-                .orElseThrow(() -> new JobNotFoundException(request.getJobId()));
-
-        // Verify assignee exists
-        User assignee = userRepository.findById(request.getAssigneeId())
-                .orElseThrow(() -> new UserNotFoundException(request.getAssigneeId()));
+        TaskReferences references = findReferences(request.getCompanyId(), request.getJobId(),
+                request.getAssigneeId());
 
         Task task = taskMapper.toEntity(request);
-        task.setCompany(company);
-        task.setJob(job);
-        task.setAssignee(assignee);
+        task.setCompany(companyRepository.getReferenceById(request.getCompanyId()));
+        task.setJob(jobRepository.getReferenceById(request.getJobId()));
+        task.setAssignee(userRepository.getReferenceById(request.getAssigneeId()));
 
         Task savedTask = taskRepository.save(task);
-        return taskMapper.toResponse(savedTask);
+        countCache.invalidate(CountCache.TASKS);
+        return taskMapper.toResponse(savedTask, references);
+    }
+
+    @Override
+    @Transactional
+    public BulkTaskResponse createTasks(BulkTaskRequest request) {
+        List<TaskRequest> items = request.getTasks();
+
+        // One IN query per referenced table instead of three lookups per task
+        Set<UUID> companyIds = companyRepository.findIdsByIdIn(collectIds(items, TaskRequest::getCompanyId));
+        Set<UUID> jobIds = jobRepository.findIdsByIdIn(collectIds(items, TaskRequest::getJobId));
+        Set<UUID> assigneeIds = userRepository.findIdsByIdIn(collectIds(items, TaskRequest::getAssigneeId));
+
+        List<BulkTaskResponse.ItemResult> results = new ArrayList<>(items.size());
+        List<Task> tasks = new ArrayList<>(items.size());
+        List<Integer> taskIndexes = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            TaskRequest item = items.get(i);
+            String error = missingReference(item, companyIds, jobIds, assigneeIds);
+            if (error != null) {
+                results.add(BulkTaskResponse.ItemResult.failed(i, error));
+                continue;
+            }
+
+            // References are already verified, so proxies avoid loading the rows again
+            Task task = taskMapper.toEntity(item);
+            task.setCompany(companyRepository.getReferenceById(item.getCompanyId()));
+            task.setJob(jobRepository.getReferenceById(item.getJobId()));
+            task.setAssignee(userRepository.getReferenceById(item.getAssigneeId()));
+            tasks.add(task);
+            taskIndexes.add(i);
+        }
+
+        // Inserts are sent in JDBC batches (hibernate.jdbc.batch_size) when the transaction flushes
+        taskRepository.saveAll(tasks);
+        for (int i = 0; i < tasks.size(); i++) {
+            results.add(BulkTaskResponse.ItemResult.created(taskIndexes.get(i), tasks.get(i).getId()));
+        }
+        results.sort(Comparator.comparingInt(BulkTaskResponse.ItemResult::getIndex));
+
+        if (!tasks.isEmpty()) {
+            countCache.invalidate(CountCache.TASKS);
+        }
+        return BulkTaskResponse.builder()
+                .created(tasks.size())
+                .failed(items.size() - tasks.size())
+                .results(results)
+                .build();
     }
 
     @Override
@@ -71,30 +121,24 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
 
-        // If changing company, verify new company exists
+        // Verifies the (possibly new) company, job and assignee in one query
+        TaskReferences references = findReferences(request.getCompanyId(), request.getJobId(),
+                request.getAssigneeId());
+
         if (!task.getCompany().getId().equals(request.getCompanyId())) {
-            Company newCompany = companyRepository.findById(request.getCompanyId())
-                    .orElseThrow(() -> new CompanyNotFoundException(request.getCompanyId()));
-            task.setCompany(newCompany);
+            task.setCompany(companyRepository.getReferenceById(request.getCompanyId()));
         }
-
-        // If changing job, verify new job exists
         if (!task.getJob().getId().equals(request.getJobId())) {
-            Job newJob = jobRepository.findById(request.getJobId())
-                    .orElseThrow(() -> new JobNotFoundException(request.getJobId()));
-            task.setJob(newJob);
+            task.setJob(jobRepository.getReferenceById(request.getJobId()));
         }
-
-        // If changing assignee, verify new assignee exists
         if (!task.getAssignee().getId().equals(request.getAssigneeId())) {
-            User newAssignee = userRepository.findById(request.getAssigneeId())
-                    .orElseThrow(() -> new UserNotFoundException(request.getAssigneeId()));
-            task.setAssignee(newAssignee);
+            task.setAssignee(userRepository.getReferenceById(request.getAssigneeId()));
         }
 
         taskMapper.updateEntityFromRequest(request, task);
         Task updatedTask = taskRepository.save(task);
-        return taskMapper.toResponse(updatedTask);
+        countCache.invalidate(CountCache.TASKS);
+        return taskMapper.toResponse(updatedTask, references);
     }
 
     @Override
@@ -102,149 +146,261 @@ public class TaskServiceImpl implements TaskService {
     public TaskResponse updateTaskStatus(UUID id, TaskStatusUpdateRequest request) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
-        
+
         task.setStatus(request.getStatus());
         Task updatedTask = taskRepository.save(task);
-        return taskMapper.toResponse(updatedTask);
+        countCache.invalidate(CountCache.TASKS);
+        return taskMapper.toResponse(updatedTask, findReferences(task.getCompany().getId(), task.getJob().getId(),
+                task.getAssignee().getId()));
+    }
+
+    @Override
+    @Transactional
+    public BulkStatusUpdateResponse updateTaskStatuses(BulkTaskStatusUpdateRequest request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (byIds == (request.getJobId() != null)) {
+            throw new IllegalArgumentException("Provide either ids or jobId");
+        }
+        if (byIds && request.getCurrentStatus() != null) {
+            throw new IllegalArgumentException("currentStatus can only be combined with jobId");
+        }
+
+        Set<UUID> ids = byIds ? new HashSet<>(request.getIds()) : Set.of();
+        // Auditing listeners do not run for bulk updates, so updatedAt is set here
+        LocalDateTime now = LocalDateTime.now();
+        int updated = byIds
+                ? taskRepository.updateStatusByIdIn(ids, request.getStatus(), now)
+                : taskRepository.updateStatusByJobId(request.getJobId(), request.getCurrentStatus(),
+                        request.getStatus(), now);
+        if (updated > 0) {
+            countCache.invalidate(CountCache.TASKS);
+        }
+        return BulkStatusUpdateResponse.builder()
+                .requested(byIds ? ids.size() : null)
+                .updated(updated)
+                .build();
     }
 
     @Override
     public TaskResponse getTaskById(UUID id) {
-        Task task = taskRepository.findById(id)
+        return taskRepository.findResponseById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
-        return taskMapper.toResponse(task);
     }
 
     @Override
-    public PaginationResponse<TaskResponse> getAllTasks(int page, int size) {
-        Page<Task> tasks = taskRepository.findAll(PageRequest.of(page, size));
+    public PaginationResponse<TaskResponse> getAllTasks(int page, int size, boolean includeTotal) {
+        Slice<TaskResponse> tasks = taskRepository.findAllResponses(PageRequest.of(page, size));
+
+        return PaginationResponse.of(tasks, includeTotal, () -> countCache.get(CountCache.TASKS,
+                "all", taskRepository::count));
+    }
+
+    @Override
+    public PaginationResponse<TaskResponse> getAllTasks(PageCursor after, int limit) {
+        Slice<TaskResponse> tasks = taskRepository.findAllResponsesAfter(
+                after.createdAt(), after.id(), PageRequest.of(0, limit));
 
-        return new PaginationResponse<>(
-                tasks.stream()
-                        .map(taskMapper::toResponse)
-                        .collect(Collectors.toList()),
-                page,
-                size,
-                tasks.getTotalElements(),
-                tasks.getTotalPages());
+        return PaginationResponse.ofSlice(tasks, TaskServiceImpl::cursorOf);
     }
 
     @Override
-    public PaginationResponse<TaskResponse> getTasksByCompany(UUID companyId, int page, int size) {
+    public PaginationResponse<TaskResponse> getTasksByCompany(UUID companyId, int page, int size,
+            boolean includeTotal) {
         // Verify company exists
         if (!companyRepository.existsById(companyId)) {
             throw new CompanyNotFoundException(companyId);
         }
 
-        Page<Task> tasks = taskRepository.findByCompanyId(companyId, PageRequest.of(page, size));
+        Slice<TaskResponse> tasks = taskRepository.findByCompanyId(companyId, PageRequest.of(page, size));
 
-        return new PaginationResponse<>(
-                tasks.stream()
-                        .map(taskMapper::toResponse)
-                        .collect(Collectors.toList()),
-                page,
-                size,
-                tasks.getTotalElements(),
-                tasks.getTotalPages());
+        return PaginationResponse.of(tasks, includeTotal, () -> countCache.get(CountCache.TASKS,
+                "company:" + companyId, () -> taskRepository.countByCompanyId(companyId)));
     }
 
     @Override
-    public PaginationResponse<TaskResponse> getTasksByJob(UUID jobId, int page, int size) {
+    public PaginationResponse<TaskResponse> getTasksByCompany(UUID companyId, PageCursor after, int limit) {
+        // Verify company exists
+        if (!companyRepository.existsById(companyId)) {
+            throw new CompanyNotFoundException(companyId);
+        }
+
+        Slice<TaskResponse> tasks = taskRepository.findByCompanyIdAfter(
+                companyId, after.createdAt(), after.id(), PageRequest.of(0, limit));
+
+        return PaginationResponse.ofSlice(tasks, TaskServiceImpl::cursorOf);
+    }
+
+    @Override
+    public PaginationResponse<TaskResponse> getTasksByJob(UUID jobId, int page, int size, boolean includeTotal) {
         // Verify job exists
         if (!jobRepository.existsById(jobId)) {
             throw new JobNotFoundException(jobId);
         }
 
-        Page<Task> tasks = taskRepository.findByJobId(jobId, PageRequest.of(page, size));
+        Slice<TaskResponse> tasks = taskRepository.findByJobId(jobId, PageRequest.of(page, size));
 
-        return new PaginationResponse<>(
-                tasks.stream()
-                        .map(taskMapper::toResponse)
-                        .collect(Collectors.toList()),
-                page,
-                size,
-                tasks.getTotalElements(),
-                tasks.getTotalPages());
+        return PaginationResponse.of(tasks, includeTotal, () -> countCache.get(CountCache.TASKS,
+                "job:" + jobId, () -> taskRepository.countByJobId(jobId)));
     }
 
     @Override
-    public PaginationResponse<TaskResponse> getTasksByAssignee(UUID assigneeId, int page, int size) {
+    public PaginationResponse<TaskResponse> getTasksByJob(UUID jobId, PageCursor after, int limit) {
+        // Verify job exists
+        if (!jobRepository.existsById(jobId)) {
+            throw new JobNotFoundException(jobId);
+        }
+
+        Slice<TaskResponse> tasks = taskRepository.findByJobIdAfter(
+                jobId, after.createdAt(), after.id(), PageRequest.of(0, limit));
+
+        return PaginationResponse.ofSlice(tasks, TaskServiceImpl::cursorOf);
+    }
+
+    @Override
+    public PaginationResponse<TaskResponse> getTasksByAssignee(UUID assigneeId, int page, int size,
+            boolean includeTotal) {
+        // Verify assignee exists
+        if (!userRepository.existsById(assigneeId)) {
+            throw new UserNotFoundException(assigneeId);
+        }
+
+        Slice<TaskResponse> tasks = taskRepository.findByAssigneeId(assigneeId, PageRequest.of(page, size));
+
+        return PaginationResponse.of(tasks, includeTotal, () -> countCache.get(CountCache.TASKS,
+                "assignee:" + assigneeId, () -> taskRepository.countByAssigneeId(assigneeId)));
+    }
+
+    @Override
+    public PaginationResponse<TaskResponse> getTasksByAssignee(UUID assigneeId, PageCursor after, int limit) {
         // Verify assignee exists
         if (!userRepository.existsById(assigneeId)) {
             throw new UserNotFoundException(assigneeId);
         }
 
-        Page<Task> tasks = taskRepository.findByAssigneeId(assigneeId, PageRequest.of(page, size));
+        Slice<TaskResponse> tasks = taskRepository.findByAssigneeIdAfter(
+                assigneeId, after.createdAt(), after.id(), PageRequest.of(0, limit));
 
-        return new PaginationResponse<>(
-                tasks.stream()
-                        .map(taskMapper::toResponse)
-                        .collect(Collectors.toList()),
-                page,
-                size,
-                tasks.getTotalElements(),
-                tasks.getTotalPages());
+        return PaginationResponse.ofSlice(tasks, TaskServiceImpl::cursorOf);
     }
 
     @Override
-    public PaginationResponse<TaskResponse> getTasksByStatus(TaskStatus status, int page, int size) {
-        Page<Task> tasks = taskRepository.findByStatus(status, PageRequest.of(page, size));
+    public PaginationResponse<TaskResponse> getTasksByStatus(TaskStatus status, int page, int size,
+            boolean includeTotal) {
+        Slice<TaskResponse> tasks = taskRepository.findByStatus(status, PageRequest.of(page, size));
+
+        return PaginationResponse.of(tasks, includeTotal, () -> countCache.get(CountCache.TASKS,
+                "status:" + status, () -> taskRepository.countByStatus(status)));
+    }
+
+    @Override
+    public PaginationResponse<TaskResponse> getTasksByStatus(TaskStatus status, PageCursor after, int limit) {
+        Slice<TaskResponse> tasks = taskRepository.findByStatusAfter(
+                status, after.createdAt(), after.id(), PageRequest.of(0, limit));
+
+        return PaginationResponse.ofSlice(tasks, TaskServiceImpl::cursorOf);
+    }
+
+    @Override
+    public PaginationResponse<TaskResponse> getTasksByJobAndStatus(UUID jobId, TaskStatus status, int page, int size,
+            boolean includeTotal) {
+        // Verify job exists
+        if (!jobRepository.existsById(jobId)) {
+            throw new JobNotFoundException(jobId);
+        }
 
-        return new PaginationResponse<>(
-                tasks.stream()
-                        .map(taskMapper::toResponse)
-                        .collect(Collectors.toList()),
-                page,
-                size,
-                tasks.getTotalElements(),
-                tasks.getTotalPages());
+        Slice<TaskResponse> tasks = taskRepository.findByJobIdAndStatus(jobId, status, PageRequest.of(page, size));
+
+        return PaginationResponse.of(tasks, includeTotal, () -> countCache.get(CountCache.TASKS,
+                "job:" + jobId + ":status:" + status, () -> taskRepository.countByJobIdAndStatus(jobId, status)));
     }
 
     @Override
-    public PaginationResponse<TaskResponse> getTasksByJobAndStatus(UUID jobId, TaskStatus status, int page, int size) {
+    public PaginationResponse<TaskResponse> getTasksByJobAndStatus(UUID jobId, TaskStatus status, PageCursor after,
+            int limit) {
         // Verify job exists
         if (!jobRepository.existsById(jobId)) {
             throw new JobNotFoundException(jobId);
         }
 
-        Page<Task> tasks = taskRepository.findByJobIdAndStatus(jobId, status, PageRequest.of(page, size));
+        Slice<TaskResponse> tasks = taskRepository.findByJobIdAndStatusAfter(
+                jobId, status, after.createdAt(), after.id(), PageRequest.of(0, limit));
+
+        return PaginationResponse.ofSlice(tasks, TaskServiceImpl::cursorOf);
+    }
+
+    @Override
+    public PaginationResponse<TaskResponse> getTasksByAssigneeAndStatus(UUID assigneeId, TaskStatus status, int page,
+            int size, boolean includeTotal) {
+        // Verify assignee exists
+        if (!userRepository.existsById(assigneeId)) {
+            throw new UserNotFoundException(assigneeId);
+        }
+
+        Slice<TaskResponse> tasks = taskRepository.findByAssigneeIdAndStatus(assigneeId, status,
+                PageRequest.of(page, size));
 
-        return new PaginationResponse<>(
-                tasks.stream()
-                        .map(taskMapper::toResponse)
-                        .collect(Collectors.toList()),
-                page,
-                size,
-                tasks.getTotalElements(),
-                tasks.getTotalPages());
+        return PaginationResponse.of(tasks, includeTotal, () -> countCache.get(CountCache.TASKS,
+                "assignee:" + assigneeId + ":status:" + status,
+                        () -> taskRepository.countByAssigneeIdAndStatus(assigneeId, status)));
     }
 
     @Override
-    public PaginationResponse<TaskResponse> getTasksByAssigneeAndStatus(UUID assigneeId, TaskStatus status, int page, int size) {
+    public PaginationResponse<TaskResponse> getTasksByAssigneeAndStatus(UUID assigneeId, TaskStatus status,
+            PageCursor after, int limit) {
         // Verify assignee exists
         if (!userRepository.existsById(assigneeId)) {
             throw new UserNotFoundException(assigneeId);
         }
 
-        Page<Task> tasks = taskRepository.findByAssigneeIdAndStatus(assigneeId, status, PageRequest.of(page, size));
+        Slice<TaskResponse> tasks = taskRepository.findByAssigneeIdAndStatusAfter(
+                assigneeId, status, after.createdAt(), after.id(), PageRequest.of(0, limit));
 
-        return new PaginationResponse<>(
-                tasks.stream()
-                        .map(taskMapper::toResponse)
-                        .collect(Collectors.toList()),
-                page,
-                size,
-                tasks.getTotalElements(),
-                tasks.getTotalPages());
+        return PaginationResponse.ofSlice(tasks, TaskServiceImpl::cursorOf);
     }
 
     @Override
     @Transactional
     public void deleteTask(UUID id) {
-        taskRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException(id));
+        if (taskRepository.deleteOneById(id) == 0) {
+            throw new TaskNotFoundException(id);
+        }
+        countCache.invalidate(CountCache.TASKS);
+    }
 
-        taskRepository.deleteById(id);
+    private TaskReferences findReferences(UUID companyId, UUID jobId, UUID assigneeId) {
+        return taskRepository.findReferences(companyId, jobId, assigneeId).orElseThrow(() -> {
+            // Only on failure: find out which reference is missing
+            if (!companyRepository.existsById(companyId)) {
+                return new CompanyNotFoundException(companyId);
+            }
+            if (!jobRepository.existsById(jobId)) {
+                return new JobNotFoundException(jobId);
+            }
+            return new UserNotFoundException(assigneeId);
+        });
     }
-}
 
+    private static String missingReference(TaskRequest item, Set<UUID> companyIds, Set<UUID> jobIds,
+            Set<UUID> assigneeIds) {
+        if (!companyIds.contains(item.getCompanyId())) {
+            return new CompanyNotFoundException(item.getCompanyId()).getMessage();
+        }
+        if (!jobIds.contains(item.getJobId())) {
+            return new JobNotFoundException(item.getJobId()).getMessage();
+        }
+        if (!assigneeIds.contains(item.getAssigneeId())) {
+            return new UserNotFoundException(item.getAssigneeId()).getMessage();
+        }
+        return null;
+    }
+
+    private static Set<UUID> collectIds(List<TaskRequest> items, Function<TaskRequest, UUID> id) {
+        Set<UUID> ids = new HashSet<>();
+        items.forEach(item -> ids.add(id.apply(item)));
+        return ids;
+    }
+
+    private static PageCursor cursorOf(TaskResponse response) {
+        return new PageCursor(response.getCreatedAt(), response.getId());
+    }
+}
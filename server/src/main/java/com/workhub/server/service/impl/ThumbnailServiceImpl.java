@@ -0,0 +1,257 @@
+package com.workhub.server.service.impl;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.workhub.server.repository.CompanyRepository;
+import com.workhub.server.repository.UserRepository;
+import com.workhub.server.service.FileDeletionService;
+import com.workhub.server.service.FileReferenceService;
+import com.workhub.server.service.FileStorageService;
+import com.workhub.server.service.ImageVariants;
+import com.workhub.server.service.ThumbnailService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resizes logos and avatars into JPEG variants on a small bounded pool, off the request thread.
+ * When the pool's queue is full new work is dropped: the original stays usable, only the variants
+ * are missing.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailServiceImpl implements ThumbnailService {
+
+    private final FileStorageService fileStorageService;
+    private final FileDeletionService fileDeletionService;
+    private final FileReferenceService fileReferenceService;
+    private final CompanyRepository companyRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${thumbnail.widths:64,256}")
+    private int[] widths;
+
+    @Value("${thumbnail.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    @Value("${thumbnail.max-decoded-pixels:4000000}")
+    private long maxDecodedPixels;
+
+    @Value("${thumbnail.worker-threads:2}")
+    private int workerThreads;
+
+    @Value("${thumbnail.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    void init() {
+        widths = Arrays.stream(widths).sorted().toArray();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void generateLogoVariants(UUID companyId, String logoUrl) {
+        afterCommit(() -> generate(logoUrl,
+                variants -> companyRepository.updateLogoVariants(companyId, logoUrl, variants)));
+    }
+
+    @Override
+    public void generateAvatarVariants(UUID userId, String avatarUrl) {
+        afterCommit(() -> generate(avatarUrl,
+                variants -> userRepository.updateAvatarVariants(userId, avatarUrl, variants)));
+    }
+
+    @Override
+    public void deleteVariants(String originalUrl, String widths) {
+        String key = keyOf(originalUrl);
+        // Variants of a shared original stay with it until its last reference is released
+        if (key == null || !fileReferenceService.findReferenced(List.of(key)).isEmpty()) {
+            return;
+        }
+        ImageVariants.parse(widths).forEach(width -> fileDeletionService.enqueue(ImageVariants.variantOf(key, width)));
+    }
+
+    private void afterCommit(Runnable task) {
+        Runnable submit = () -> {
+            try {
+                executor.execute(task);
+            } catch (TaskRejectedException e) {
+                log.warn("Thumbnail queue is full, skipping image variants");
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    /**
+     * @param attach records the generated widths on the owner, returning 0 when the image was
+     *               replaced or the owner deleted in the meantime
+     */
+    private void generate(String originalUrl, ToIntFunction<String> attach) {
+        String key = keyOf(originalUrl);
+        if (key == null) {
+            return;
+        }
+        try {
+            List<Integer> created = createVariants(key);
+            if (created.isEmpty()) {
+                return;
+            }
+            Integer attached = transactionTemplate.execute(status -> attach.applyAsInt(ImageVariants.format(created)));
+            if (attached == null || attached == 0) {
+                created.forEach(width -> fileDeletionService.enqueue(ImageVariants.variantOf(key, width)));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to create image variants for {}", key, e);
+        }
+    }
+
+    private List<Integer> createVariants(String key) throws IOException {
+        BufferedImage image;
+        try (InputStream content = fileStorageService.open(key)) {
+            image = decode(content);
+        }
+        if (image == null) {
+            // Not an image, e.g. a PDF
+            return List.of();
+        }
+
+        List<Integer> created = new ArrayList<>();
+        for (int width : widths) {
+            // Never upscale
+            if (width >= image.getWidth()) {
+                break;
+            }
+            fileStorageService.store(ImageVariants.variantOf(key, width), encodeJpeg(resize(image, width)),
+                    ImageVariants.CONTENT_TYPE);
+            created.add(width);
+        }
+        return created;
+    }
+
+    private BufferedImage decode(InputStream content) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // Decode large originals at reduced resolution: memory follows the largest variant,
+                // not the source, and twice its width keeps enough detail for a smooth downscale.
+                // Narrow but very tall images are subsampled further until they fit the pixel cap.
+                int width = reader.getWidth(0);
+                long pixels = (long) width * reader.getHeight(0);
+                int subsampling = Math.max(1, width / (widths[widths.length - 1] * 2));
+                while (pixels / ((long) subsampling * subsampling) > maxDecodedPixels) {
+                    subsampling++;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width) {
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            // JPEG has no alpha channel: transparent backgrounds become white
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    // Only images uploaded to our bucket (see FileController) have variants
+    private String keyOf(String url) {
+        if (!StringUtils.hasText(url)) {
+            return null;
+        }
+        String prefix = String.format("https://%s.s3.amazonaws.com/", bucketName);
+        return url.startsWith(prefix) ? url.substring(prefix.length()) : null;
+    }
+}
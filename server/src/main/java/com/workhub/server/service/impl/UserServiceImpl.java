@@ -1,15 +1,17 @@
 package com.workhub.server.service.impl;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import com.workhub.server.dto.request.PageCursor;
 import com.workhub.server.dto.request.UserRequest;
 import com.workhub.server.dto.response.PaginationResponse;
 import com.workhub.server.dto.response.UserResponse;
@@ -23,6 +25,10 @@ import com.workhub.server.mapper.UserMapper;
 import com.workhub.server.repository.CompanyRepository;
 import com.workhub.server.repository.CompanyUserRepository;
 import com.workhub.server.repository.UserRepository;
+import com.workhub.server.repository.projection.UserAvatar;
+import com.workhub.server.security.TokenRevocationRegistry;
+import com.workhub.server.security.UserDetailsCache;
+import com.workhub.server.service.ThumbnailService;
 import com.workhub.server.service.UserService;
 
 import lombok.RequiredArgsConstructor;
@@ -37,6 +43,9 @@ public class UserServiceImpl implements UserService {
     private final CompanyUserRepository companyUserRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final UserDetailsCache userDetailsCache;
+    private final ThumbnailService thumbnailService;
 
     @Override
     @Transactional
@@ -55,6 +64,9 @@ public class UserServiceImpl implements UserService {
         }
 
         User savedUser = userRepository.save(user);
+        if (StringUtils.hasText(savedUser.getAvatarUrl())) {
+            thumbnailService.generateAvatarVariants(savedUser.getId(), savedUser.getAvatarUrl());
+        }
 
         // Nếu có truyền companyId thì mới tạo quan hệ company_user
         if (request.getCompanyId() != null) {
@@ -83,6 +95,7 @@ public class UserServiceImpl implements UserService {
         }
 
         // Handle company change through company_users relationship (nếu có truyền companyId)
+        boolean companyChanged = false;
         if (request.getCompanyId() != null) {
             List<CompanyUser> existingCompanyUsers = companyUserRepository.findByUserId(id);
             boolean hasCompany = existingCompanyUsers.stream()
@@ -95,24 +108,50 @@ public class UserServiceImpl implements UserService {
 
                 // Remove old company relationships (optional: could keep multiple companies)
                 // For now, we'll replace with new company
-                companyUserRepository.deleteAll(existingCompanyUsers);
+                companyUserRepository.deleteByUserId(id);
 
                 // Create new company_user relationship
                 CompanyUser companyUser = new CompanyUser();
                 companyUser.setCompany(newCompany);
                 companyUser.setUser(user);
                 companyUserRepository.save(companyUser);
+                companyChanged = true;
             }
         }
 
+        // Tokens carry email, role and company as claims, so invalidate them when those change, when the
+        // password is reset (the old one may be compromised) or when the account is disabled
+        // Updates always resend the password, so only a different one counts as a change
+        boolean passwordChanged = StringUtils.hasLength(request.getPassword())
+                && !passwordEncoder.matches(request.getPassword(), user.getPasswordHash());
+        boolean revokeTokens = Boolean.FALSE.equals(request.getIsActive())
+                || user.getRole() != request.getRole()
+                || !user.getEmail().equals(request.getEmail())
+                || passwordChanged
+                || companyChanged;
+        userDetailsCache.evict(user.getEmail());
+        userDetailsCache.evict(request.getEmail());
+
+        String previousAvatarUrl = user.getAvatarUrl();
         userMapper.updateEntityFromRequest(request, user);
+        if (!Objects.equals(previousAvatarUrl, user.getAvatarUrl())) {
+            // Variants belong to the old avatar; new ones are generated after commit
+            thumbnailService.deleteVariants(previousAvatarUrl, user.getAvatarVariants());
+            user.setAvatarVariants(null);
+            if (StringUtils.hasText(user.getAvatarUrl())) {
+                thumbnailService.generateAvatarVariants(id, user.getAvatarUrl());
+            }
+        }
 
         // Chỉ update password nếu có password mới
-        if (request.getPassword() != null && !request.getPassword().isEmpty()) {
+        if (passwordChanged) {
             user.setPasswordHash(passwordEncoder.encode(request.getPassword()));
         }
 
         User updatedUser = userRepository.save(user);
+        if (revokeTokens) {
+            tokenRevocationRegistry.revokeAllTokens(id);
+        }
         return userMapper.toResponse(updatedUser);
     }
 
@@ -124,55 +163,68 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public PaginationResponse<UserResponse> getAllUsers(int page, int size) {
-        Page<User> users = userRepository.findAll(PageRequest.of(page, size));
-
-        return new PaginationResponse<>(
-                users.stream()
-                        .map(userMapper::toResponse)
-                        .collect(Collectors.toList()),
-                page,
-                size,
-                users.getTotalElements(),
-                users.getTotalPages());
+    public PaginationResponse<UserResponse> getAllUsers(int page, int size, boolean includeTotal) {
+        Slice<User> users = userRepository.findAllBy(PageRequest.of(page, size));
+
+        return PaginationResponse.of(users.map(userMapper::toResponse), includeTotal, userRepository::count);
+    }
+
+    @Override
+    public PaginationResponse<UserResponse> getAllUsers(PageCursor after, int limit) {
+        Slice<User> users = userRepository.findAllAfter(
+                after.createdAt(), after.id(), PageRequest.of(0, limit));
+
+        return PaginationResponse.ofSlice(users.map(userMapper::toResponse), UserServiceImpl::cursorOf);
+    }
+
+    @Override
+    public PaginationResponse<UserResponse> getUsersByCompany(UUID companyId, int page, int size,
+            boolean includeTotal) {
+        // Kiểm tra company có tồn tại không
+        if (!companyRepository.existsById(companyId)) {
+            throw new CompanyNotFoundException(companyId);
+        }
+
+        // Get users through company_users junction table, paged in the database
+        Slice<User> users = companyUserRepository.findUsersByCompanyId(companyId, PageRequest.of(page, size));
+
+        return PaginationResponse.of(users.map(userMapper::toResponse), includeTotal,
+                () -> companyUserRepository.countByCompanyId(companyId));
     }
 
     @Override
-    public PaginationResponse<UserResponse> getUsersByCompany(UUID companyId, int page, int size) {
+    public PaginationResponse<UserResponse> getUsersByCompany(UUID companyId, PageCursor after, int limit) {
         // Kiểm tra company có tồn tại không
         if (!companyRepository.existsById(companyId)) {
             throw new CompanyNotFoundException(companyId);
         }
 
-        // Get users through company_users junction table
-        List<User> allUsers = companyUserRepository.findUsersByCompanyId(companyId);
-        
-        // Manual pagination (can be optimized with native query)
-        int start = page * size;
-        int end = Math.min(start + size, allUsers.size());
-        List<User> paginatedUsers = allUsers.subList(Math.min(start, allUsers.size()), end);
-
-        return new PaginationResponse<>(
-                paginatedUsers.stream()
-                        .map(userMapper::toResponse)
-                        .collect(Collectors.toList()),
-                page,
-                size,
-                allUsers.size(),
-                (int) Math.ceil((double) allUsers.size() / size));
+        // Get users through company_users junction table, paged in the database
+        Slice<User> users = companyUserRepository.findUsersByCompanyIdAfter(
+                companyId, after.createdAt(), after.id(), PageRequest.of(0, limit));
+
+        return PaginationResponse.ofSlice(users.map(userMapper::toResponse), UserServiceImpl::cursorOf);
     }
 
     @Override
     @Transactional
     public void deleteUser(UUID id) {
-        userRepository.findById(id)
+        UserAvatar avatar = userRepository.findAvatarById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
 
         // Delete all company_user relationships first
-        List<CompanyUser> companyUsers = companyUserRepository.findByUserId(id);
-        companyUserRepository.deleteAll(companyUsers);
+        companyUserRepository.deleteByUserId(id);
+
+        // Then delete the user; rolls back the membership delete if the user is already gone
+        if (userRepository.deleteOneById(id) == 0) {
+            throw new UserNotFoundException(id);
+        }
+        thumbnailService.deleteVariants(avatar.getAvatarUrl(), avatar.getAvatarVariants());
+        tokenRevocationRegistry.revokeAllTokens(id);
+        userDetailsCache.evictUser(id);
+    }
 
-        // Then delete the user
-        userRepository.deleteById(id);
+    private static PageCursor cursorOf(UserResponse response) {
+        return new PageCursor(response.getCreatedAt(), response.getId());
     }
 }
@@ -0,0 +1,80 @@
+-- Baseline schema, matching what hibernate ddl-auto created before migrations were introduced
+
+CREATE TABLE users (
+    id BINARY(16) NOT NULL,
+    full_name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password_hash VARCHAR(255) NOT NULL,
+    avatar_url VARCHAR(255),
+    role ENUM ('ADMIN', 'MANAGER', 'STAFF') NOT NULL,
+    is_active BIT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE companies (
+    id BINARY(16) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    logo_url VARCHAR(255),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE company_users (
+    id BINARY(16) NOT NULL,
+    company_id BINARY(16) NOT NULL,
+    user_id BINARY(16) NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_company_users_company FOREIGN KEY (company_id) REFERENCES companies (id),
+    CONSTRAINT fk_company_users_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE jobs (
+    id BINARY(16) NOT NULL,
+    company_id BINARY(16) NOT NULL,
+    owner_id BINARY(16) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status ENUM ('COMPLETED', 'IN_PROGRESS', 'PENDING') NOT NULL,
+    priority ENUM ('HIGH', 'LOW', 'MEDIUM') NOT NULL,
+    deadline DATETIME(6),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_jobs_company FOREIGN KEY (company_id) REFERENCES companies (id),
+    CONSTRAINT fk_jobs_owner FOREIGN KEY (owner_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tasks (
+    id BINARY(16) NOT NULL,
+    company_id BINARY(16) NOT NULL,
+    job_id BINARY(16) NOT NULL,
+    assignee_id BINARY(16) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    status ENUM ('DOING', 'DONE', 'REVIEW', 'TODO') NOT NULL,
+    start_date DATETIME(6),
+    due_date DATETIME(6),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_company FOREIGN KEY (company_id) REFERENCES companies (id),
+    CONSTRAINT fk_tasks_job FOREIGN KEY (job_id) REFERENCES jobs (id),
+    CONSTRAINT fk_tasks_assignee FOREIGN KEY (assignee_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE task_comments (
+    id BINARY(16) NOT NULL,
+    task_id BINARY(16) NOT NULL,
+    user_id BINARY(16) NOT NULL,
+    message TEXT NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_task_comments_task FOREIGN KEY (task_id) REFERENCES tasks (id),
+    CONSTRAINT fk_task_comments_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,37 @@
+-- Secondary indexes for the repository finders, built online (ALGORITHM=INPLACE, LOCK=NONE)
+-- so reads and writes continue while large tables are indexed.
+-- The unique membership key fails if duplicate (company_id, user_id) rows exist; remove them first.
+
+ALTER TABLE users
+    ADD INDEX idx_users_created (created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE companies
+    ADD INDEX idx_companies_created (created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE company_users
+    ADD CONSTRAINT uk_company_users_company_user UNIQUE (company_id, user_id),
+    ADD INDEX idx_company_users_user (user_id, company_id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE jobs
+    ADD INDEX idx_jobs_company_status (company_id, status, created_at),
+    ADD INDEX idx_jobs_owner (owner_id, created_at),
+    ADD INDEX idx_jobs_status (status, created_at),
+    ADD INDEX idx_jobs_created (created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE tasks
+    ADD INDEX idx_tasks_job_status (job_id, status, created_at),
+    ADD INDEX idx_tasks_assignee_status (assignee_id, status, created_at),
+    ADD INDEX idx_tasks_company (company_id, created_at),
+    ADD INDEX idx_tasks_status (status, created_at),
+    ADD INDEX idx_tasks_created (created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE task_comments
+    ADD INDEX idx_task_comments_task (task_id, created_at),
+    ADD INDEX idx_task_comments_user (user_id, created_at),
+    ADD INDEX idx_task_comments_created (created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,12 @@
+-- Outbox of storage objects to delete, drained asynchronously after the recording transaction commits
+
+CREATE TABLE file_deletions (
+    id BINARY(16) NOT NULL,
+    object_key VARCHAR(1024) NOT NULL,
+    attempts INT NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(1000),
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_file_deletions_next_attempt (next_attempt_at)
+) ENGINE = InnoDB;
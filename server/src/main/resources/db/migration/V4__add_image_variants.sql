@@ -0,0 +1,5 @@
+-- Widths of the resized logo/avatar variants generated in the background; NULL until they exist
+
+ALTER TABLE companies ADD COLUMN logo_variants VARCHAR(64), ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE users ADD COLUMN avatar_variants VARCHAR(64), ALGORITHM = INPLACE, LOCK = NONE;
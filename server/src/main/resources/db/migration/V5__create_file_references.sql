@@ -0,0 +1,18 @@
+-- Reference counts of content-addressed (SHA-256 keyed) storage objects shared by identical uploads
+
+CREATE TABLE file_references (
+    object_key VARCHAR(255) NOT NULL,
+    ref_count INT NOT NULL,
+    size BIGINT NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (object_key)
+) ENGINE = InnoDB;
+
+-- Uploads look up pending deletions by key. Keys come from the 255-character url columns, and a
+-- 1024-character utf8mb4 column is past the 3072-byte InnoDB index limit, so the column is narrowed
+-- to match file_references (shrinking a column needs a table copy)
+ALTER TABLE file_deletions
+    MODIFY object_key VARCHAR(255) NOT NULL,
+    ADD INDEX idx_file_deletions_object_key (object_key),
+    ALGORITHM = COPY, LOCK = SHARED;
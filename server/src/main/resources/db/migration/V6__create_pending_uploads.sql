@@ -0,0 +1,9 @@
+-- Presigned uploads issued but not yet completed; only these keys may be completed
+
+CREATE TABLE pending_uploads (
+    object_key VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    size BIGINT NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (object_key)
+) ENGINE = InnoDB;
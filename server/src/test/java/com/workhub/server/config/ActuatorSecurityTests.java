@@ -0,0 +1,61 @@
+package com.workhub.server.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.workhub.server.constant.UserRole;
+import com.workhub.server.security.AuthenticatedUser;
+import com.workhub.server.security.JwtTokenProvider;
+
+/**
+ * Health stays public for probes; every other exposed endpoint requires an admin.
+ */
+@SpringBootTest(properties = {
+        "jwt.stateless=true",
+        "management.endpoints.web.exposure.include=health,metrics"
+})
+@AutoConfigureMockMvc
+class ActuatorSecurityTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void healthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    @Test
+    void metricsRequireAnAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics/jvm.memory.used")
+                        .header("Authorization", "Bearer " + token(UserRole.MANAGER)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics/jvm.memory.used")
+                        .header("Authorization", "Bearer " + token(UserRole.ADMIN)))
+                .andExpect(status().isOk());
+    }
+
+    private String token(UserRole role) {
+        User user = new User(role.name().toLowerCase() + "@acme.test", "hash",
+                List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        return jwtTokenProvider.generateToken(user, Map.of(
+                AuthenticatedUser.CLAIM_USER_ID, UUID.randomUUID().toString(),
+                AuthenticatedUser.CLAIM_ROLE, role.name()));
+    }
+}
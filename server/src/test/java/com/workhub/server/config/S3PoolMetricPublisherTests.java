@@ -0,0 +1,85 @@
+package com.workhub.server.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Feeds collections shaped like the SDK's own: pool metrics sit on the HTTP client collection,
+ * nested under the call attempt, nested under the API call.
+ */
+class S3PoolMetricPublisherTests {
+
+    private SimpleMeterRegistry meterRegistry;
+    private S3PoolMetricPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new S3PoolMetricPublisher(meterRegistry);
+    }
+
+    @Test
+    void gaugesStartAtZeroBeforeAnyCall() {
+        assertThat(gauge("s3.client.pool.leased")).isZero();
+        assertThat(gauge("s3.client.pool.pending")).isZero();
+        assertThat(gauge("s3.client.pool.saturation")).isZero();
+    }
+
+    @Test
+    void nestedPoolMetricsReachTheGauges() {
+        publisher.publish(apiCall(10, 50, 0));
+
+        assertThat(gauge("s3.client.pool.leased")).isEqualTo(10);
+        assertThat(gauge("s3.client.pool.pending")).isZero();
+        assertThat(gauge("s3.client.pool.saturation")).isEqualTo(0.2);
+    }
+
+    @Test
+    void gaugesShowTheLatestObservationAndPendingIsRecordedPerCall() {
+        publisher.publish(apiCall(20, 50, 0));
+        publisher.publish(apiCall(50, 50, 7));
+
+        assertThat(gauge("s3.client.pool.leased")).isEqualTo(50);
+        assertThat(gauge("s3.client.pool.pending")).isEqualTo(7);
+        assertThat(gauge("s3.client.pool.saturation")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("s3.client.pool.pending.acquires").summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("s3.client.pool.pending.acquires").summary().max()).isEqualTo(7);
+    }
+
+    @Test
+    void retriedAttemptsReportTheLastAttempt() {
+        MetricCollector call = MetricCollector.create("ApiCall");
+        attempt(call, 49, 50, 3);
+        attempt(call, 5, 50, 0);
+
+        publisher.publish(call.collect());
+
+        assertThat(gauge("s3.client.pool.leased")).isEqualTo(5);
+        assertThat(gauge("s3.client.pool.pending")).isZero();
+        assertThat(gauge("s3.client.pool.saturation")).isEqualTo(0.1);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private static MetricCollection apiCall(int leased, int max, int pending) {
+        MetricCollector call = MetricCollector.create("ApiCall");
+        attempt(call, leased, max, pending);
+        return call.collect();
+    }
+
+    private static void attempt(MetricCollector call, int leased, int max, int pending) {
+        MetricCollector http = call.createChild("ApiCallAttempt").createChild("HttpClient");
+        http.reportMetric(HttpMetric.LEASED_CONCURRENCY, leased);
+        http.reportMetric(HttpMetric.MAX_CONCURRENCY, max);
+        http.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, pending);
+    }
+}
@@ -0,0 +1,46 @@
+package com.workhub.server.dto.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+class PaginationResponseTests {
+
+    @Test
+    void skipsCountWhenTotalNotRequested() {
+        AtomicInteger counts = new AtomicInteger();
+        PaginationResponse<String> response = PaginationResponse.of(
+                new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true), false, counts::incrementAndGet);
+
+        assertThat(counts).hasValue(0);
+        assertThat(response.getTotalElements()).isNull();
+        assertThat(response.getTotalPages()).isNull();
+        assertThat(response.isHasNext()).isTrue();
+    }
+
+    @Test
+    void derivesTotalFromLastPageWithoutCounting() {
+        AtomicInteger counts = new AtomicInteger();
+        PaginationResponse<String> response = PaginationResponse.of(
+                new SliceImpl<>(List.of("e"), PageRequest.of(2, 2), false), true, counts::incrementAndGet);
+
+        assertThat(counts).hasValue(0);
+        assertThat(response.getTotalElements()).isEqualTo(5L);
+        assertThat(response.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    void countsWhenMorePagesFollow() {
+        PaginationResponse<String> response = PaginationResponse.of(
+                new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true), true, () -> 7L);
+
+        assertThat(response.getTotalElements()).isEqualTo(7L);
+        assertThat(response.getTotalPages()).isEqualTo(4);
+        assertThat(response.isHasNext()).isTrue();
+    }
+}
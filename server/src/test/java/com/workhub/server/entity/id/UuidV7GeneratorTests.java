@@ -0,0 +1,32 @@
+package com.workhub.server.entity.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class UuidV7GeneratorTests {
+
+    @Test
+    void generatesVersion7WithEmbeddedTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.generate();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void idsIncreaseInStorageByteOrder() {
+        UUID previous = UuidV7Generator.generate();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = UuidV7Generator.generate();
+            // BINARY(16) compares bytes unsigned, most significant half first
+            int byMsb = Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits());
+            assertThat(byMsb).isPositive();
+            previous = next;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.workhub.server.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.workhub.server.constant.JobStatus;
+import com.workhub.server.constant.TaskStatus;
+
+/**
+ * Runs EXPLAIN on the SQL each filtered finder generates and fails if the plan falls back to a
+ * table scan. Plans come from the in-memory test database, so this guards that a matching index
+ * exists rather than the exact plan MySQL will pick.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.workhub.server.repository.FinderIndexTests$CapturingInspector")
+class FinderIndexTests {
+
+    private static final UUID ID = UUID.randomUUID();
+    private static final LocalDateTime NOW = LocalDateTime.now();
+    private static final Pageable PAGE = PageRequest.of(1, 10);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private TaskCommentRepository taskCommentRepository;
+
+    @Autowired
+    private CompanyUserRepository companyUserRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Test
+    void taskFindersUseIndexes() {
+        assertIndexed(() -> taskRepository.findByCompanyId(ID, PAGE));
+        assertIndexed(() -> taskRepository.findByJobId(ID, PAGE));
+        assertIndexed(() -> taskRepository.findByAssigneeId(ID, PAGE));
+        assertIndexed(() -> taskRepository.findByStatus(TaskStatus.TODO, PAGE));
+        assertIndexed(() -> taskRepository.findByJobIdAndStatus(ID, TaskStatus.TODO, PAGE));
+        assertIndexed(() -> taskRepository.findByAssigneeIdAndStatus(ID, TaskStatus.TODO, PAGE));
+        assertIndexed(() -> taskRepository.findAllResponsesAfter(NOW, ID, PAGE));
+        assertIndexed(() -> taskRepository.findByCompanyIdAfter(ID, NOW, ID, PAGE));
+        assertIndexed(() -> taskRepository.findByJobIdAfter(ID, NOW, ID, PAGE));
+        assertIndexed(() -> taskRepository.findByAssigneeIdAfter(ID, NOW, ID, PAGE));
+        assertIndexed(() -> taskRepository.findByStatusAfter(TaskStatus.TODO, NOW, ID, PAGE));
+        assertIndexed(() -> taskRepository.findByJobIdAndStatusAfter(ID, TaskStatus.TODO, NOW, ID, PAGE));
+        assertIndexed(() -> taskRepository.findByAssigneeIdAndStatusAfter(ID, TaskStatus.TODO, NOW, ID, PAGE));
+        assertIndexed(() -> taskRepository.countByCompanyId(ID));
+        assertIndexed(() -> taskRepository.countByJobId(ID));
+        assertIndexed(() -> taskRepository.countByAssigneeId(ID));
+        assertIndexed(() -> taskRepository.countByStatus(TaskStatus.TODO));
+        assertIndexed(() -> taskRepository.countByJobIdAndStatus(ID, TaskStatus.TODO));
+        assertIndexed(() -> taskRepository.countByAssigneeIdAndStatus(ID, TaskStatus.TODO));
+    }
+
+    @Test
+    void jobFindersUseIndexes() {
+        assertIndexed(() -> jobRepository.findByCompanyId(ID, PAGE));
+        assertIndexed(() -> jobRepository.findByOwnerId(ID, PAGE));
+        assertIndexed(() -> jobRepository.findByStatus(JobStatus.PENDING, PAGE));
+        assertIndexed(() -> jobRepository.findByCompanyIdAndStatus(ID, JobStatus.PENDING, PAGE));
+        assertIndexed(() -> jobRepository.findAllResponsesAfter(NOW, ID, PAGE));
+        assertIndexed(() -> jobRepository.findByCompanyIdAfter(ID, NOW, ID, PAGE));
+        assertIndexed(() -> jobRepository.findByOwnerIdAfter(ID, NOW, ID, PAGE));
+        assertIndexed(() -> jobRepository.findByStatusAfter(JobStatus.PENDING, NOW, ID, PAGE));
+        assertIndexed(() -> jobRepository.findByCompanyIdAndStatusAfter(ID, JobStatus.PENDING, NOW, ID, PAGE));
+        assertIndexed(() -> jobRepository.countByCompanyId(ID));
+        assertIndexed(() -> jobRepository.countByOwnerId(ID));
+        assertIndexed(() -> jobRepository.countByStatus(JobStatus.PENDING));
+        assertIndexed(() -> jobRepository.countByCompanyIdAndStatus(ID, JobStatus.PENDING));
+    }
+
+    @Test
+    void commentAndMembershipFindersUseIndexes() {
+        assertIndexed(() -> taskCommentRepository.findByTaskId(ID, PAGE));
+        assertIndexed(() -> taskCommentRepository.findByUserId(ID, PAGE));
+        assertIndexed(() -> taskCommentRepository.findAllAfter(NOW, ID, PAGE));
+        assertIndexed(() -> taskCommentRepository.findByTaskIdAfter(ID, NOW, ID, PAGE));
+        assertIndexed(() -> taskCommentRepository.findByUserIdAfter(ID, NOW, ID, PAGE));
+        assertIndexed(() -> taskCommentRepository.countByTaskId(ID));
+        assertIndexed(() -> taskCommentRepository.countByUserId(ID));
+
+        assertIndexed(() -> companyUserRepository.findUsersByCompanyId(ID, PAGE));
+        assertIndexed(() -> companyUserRepository.findUsersByCompanyIdAfter(ID, NOW, ID, PAGE));
+        assertIndexed(() -> companyUserRepository.findWithUsersByCompanyIdIn(Set.of(ID)));
+        assertIndexed(() -> companyUserRepository.countByCompanyIdIn(Set.of(ID)));
+        assertIndexed(() -> companyUserRepository.findCompanyIdsByUserId(ID));
+        assertIndexed(() -> companyUserRepository.countByCompanyId(ID));
+        assertIndexed(() -> companyUserRepository.existsByCompanyIdAndUserId(ID, ID));
+
+        assertIndexed(() -> userRepository.findAllAfter(NOW, ID, PAGE));
+        assertIndexed(() -> companyRepository.findAllAfter(NOW, ID, PAGE));
+    }
+
+    private void assertIndexed(Runnable finder) {
+        CapturingInspector.STATEMENTS.clear();
+        finder.run();
+        assertThat(CapturingInspector.STATEMENTS).isNotEmpty();
+        for (String sql : List.copyOf(CapturingInspector.STATEMENTS)) {
+            assertThat(explain(sql)).as("plan for %s", sql).doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    private String explain(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            // Parameter values do not affect index selection here, only the predicates do
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                StringBuilder result = new StringBuilder();
+                while (plan.next()) {
+                    result.append(plan.getString(1));
+                }
+                return result.toString();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("EXPLAIN failed for " + sql, e);
+        }
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.workhub.server.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import com.workhub.server.constant.JobPriority;
+import com.workhub.server.constant.JobStatus;
+import com.workhub.server.constant.TaskStatus;
+import com.workhub.server.constant.UserRole;
+import com.workhub.server.dto.request.PageCursor;
+import com.workhub.server.dto.response.JobResponse;
+import com.workhub.server.dto.response.TaskResponse;
+import com.workhub.server.entity.Company;
+import com.workhub.server.entity.CompanyUser;
+import com.workhub.server.entity.Job;
+import com.workhub.server.entity.Task;
+import com.workhub.server.entity.User;
+
+/**
+ * Guards against N+1 regressions: list endpoints must load a page in a fixed number of statements.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class QueryCountTests {
+
+    private static final int ROWS = 12;
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private CompanyUserRepository companyUserRepository;
+
+    private Statistics statistics;
+    private Company company;
+    private Job job;
+    private User assignee;
+
+    @BeforeEach
+    void setUp() {
+        company = new Company();
+        company.setName("Acme");
+        company.setAddress("1 Main St");
+        entityManager.persist(company);
+
+        assignee = new User();
+        assignee.setFullName("Jane Doe");
+        assignee.setEmail("jane@acme.test");
+        assignee.setPasswordHash("hash");
+        assignee.setRole(UserRole.STAFF);
+        entityManager.persist(assignee);
+
+        job = new Job();
+        job.setCompany(company);
+        job.setOwner(assignee);
+        job.setTitle("Launch");
+        job.setStatus(JobStatus.IN_PROGRESS);
+        job.setPriority(JobPriority.HIGH);
+        entityManager.persist(job);
+
+        for (int i = 0; i < ROWS; i++) {
+            Task task = new Task();
+            task.setCompany(company);
+            task.setJob(job);
+            task.setAssignee(assignee);
+            task.setTitle("Task " + i);
+            task.setStatus(i % 2 == 0 ? TaskStatus.TODO : TaskStatus.DONE);
+            entityManager.persist(task);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void taskPagesLoadReferencedNamesWithoutExtraSelects() {
+        assertPageStatements(taskRepository.findAllResponses(PageRequest.of(0, PAGE_SIZE)));
+        assertPageStatements(taskRepository.findByCompanyId(company.getId(), PageRequest.of(0, PAGE_SIZE)));
+        assertPageStatements(taskRepository.findByJobId(job.getId(), PageRequest.of(0, PAGE_SIZE)));
+        assertPageStatements(taskRepository.findByAssigneeId(assignee.getId(), PageRequest.of(0, PAGE_SIZE)));
+        assertPageStatements(taskRepository.findByStatus(TaskStatus.TODO, PageRequest.of(0, PAGE_SIZE)));
+        assertPageStatements(taskRepository.findByJobIdAndStatus(job.getId(), TaskStatus.TODO,
+                PageRequest.of(0, PAGE_SIZE)));
+        assertPageStatements(taskRepository.findByAssigneeIdAndStatus(assignee.getId(), TaskStatus.DONE,
+                PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    @Test
+    void taskCursorPagesSeekWithoutCounting() {
+        Set<UUID> seen = new HashSet<>();
+        PageCursor cursor = PageCursor.FIRST;
+        Slice<TaskResponse> slice;
+        do {
+            slice = taskRepository.findByJobIdAfter(job.getId(), cursor.createdAt(), cursor.id(),
+                    PageRequest.of(0, PAGE_SIZE));
+            // Only the page select, no COUNT
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            statistics.clear();
+
+            slice.getContent().forEach(task -> assertThat(seen.add(task.getId())).isTrue());
+            if (slice.hasNext()) {
+                TaskResponse last = slice.getContent().get(slice.getNumberOfElements() - 1);
+                cursor = PageCursor.decode(new PageCursor(last.getCreatedAt(), last.getId()).encode());
+            }
+        } while (slice.hasNext());
+
+        assertThat(seen).hasSize(ROWS);
+    }
+
+    @Test
+    void jobPagesLoadReferencedNamesWithoutExtraSelects() {
+        for (int i = 1; i < ROWS; i++) {
+            Job extra = new Job();
+            extra.setCompany(entityManager.getEntityManager().getReference(Company.class, company.getId()));
+            extra.setOwner(entityManager.getEntityManager().getReference(User.class, assignee.getId()));
+            extra.setTitle("Launch " + i);
+            extra.setStatus(JobStatus.IN_PROGRESS);
+            extra.setPriority(JobPriority.MEDIUM);
+            entityManager.persist(extra);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        assertJobPageStatements(jobRepository.findAllResponses(PageRequest.of(0, PAGE_SIZE)));
+        assertJobPageStatements(jobRepository.findByCompanyId(company.getId(), PageRequest.of(0, PAGE_SIZE)));
+        assertJobPageStatements(jobRepository.findByOwnerId(assignee.getId(), PageRequest.of(0, PAGE_SIZE)));
+        assertJobPageStatements(jobRepository.findByStatus(JobStatus.IN_PROGRESS, PageRequest.of(0, PAGE_SIZE)));
+        assertJobPageStatements(jobRepository.findByCompanyIdAndStatus(company.getId(), JobStatus.IN_PROGRESS,
+                PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    @Test
+    void companyMembersLoadInOneStatementPerPage() {
+        List<UUID> companyIds = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Company other = new Company();
+            other.setName("Company " + i);
+            other.setAddress("1 Main St");
+            entityManager.persist(other);
+            companyIds.add(other.getId());
+            entityManager.persist(new CompanyUser(null, other, assignee, null));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<CompanyUser> members = companyUserRepository.findWithUsersByCompanyIdIn(companyIds);
+        assertThat(members).hasSize(PAGE_SIZE);
+        assertThat(members).allSatisfy(member -> assertThat(member.getUser().getFullName()).isEqualTo("Jane Doe"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        assertThat(companyUserRepository.countByCompanyIdIn(companyIds))
+                .allSatisfy(count -> assertThat(count.getUserCount()).isEqualTo(1L))
+                .hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void taskStatusesChangeInOneStatement() {
+        LocalDateTime now = LocalDateTime.now();
+
+        // Only the TODO half moves; DONE rows are already in the target status
+        assertThat(taskRepository.updateStatusByJobId(job.getId(), null, TaskStatus.DONE, now))
+                .isEqualTo(ROWS / 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(taskRepository.findAll()).allSatisfy(task -> {
+            assertThat(task.getStatus()).isEqualTo(TaskStatus.DONE);
+            assertThat(task.getUpdatedAt()).isNotNull();
+        });
+
+        List<UUID> ids = taskRepository.findAll().stream().map(Task::getId).toList();
+        statistics.clear();
+        assertThat(taskRepository.updateStatusByIdIn(ids, TaskStatus.DONE, now)).isZero();
+        assertThat(taskRepository.updateStatusByIdIn(ids, TaskStatus.REVIEW, now)).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private void assertJobPageStatements(Slice<JobResponse> page) {
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allSatisfy(job -> {
+            assertThat(job.getCompanyName()).isEqualTo("Acme");
+            assertThat(job.getOwnerName()).isEqualTo("Jane Doe");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        statistics.clear();
+    }
+
+    private void assertPageStatements(Slice<TaskResponse> page) {
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allSatisfy(task -> {
+            assertThat(task.getCompanyName()).isEqualTo("Acme");
+            assertThat(task.getJobTitle()).isEqualTo("Launch");
+            assertThat(task.getAssigneeName()).isEqualTo("Jane Doe");
+        });
+        // One select for the page, independent of the page size; totals are counted separately on demand
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        statistics.clear();
+    }
+}
@@ -0,0 +1,125 @@
+package com.workhub.server.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.metamodel.EntityType;
+
+/**
+ * Builds the schema from the Flyway migrations instead of the entity mappings and lets Hibernate
+ * validate it at startup, so drift between db/migration and the entities fails here rather than at
+ * boot in production. Runs on H2 in MySQL mode: the scripts are applied as written except for the
+ * online-DDL hints, which H2 does not parse (see {@link #toH2(String)}).
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.datasource.url=jdbc:h2:mem:migrations;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SchemaMigrationTests {
+
+    private static final Pattern ONLINE_DDL = Pattern.compile(
+            ",\\s*ALGORITHM\\s*=\\s*\\w+\\s*,\\s*LOCK\\s*=\\s*\\w+", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ALTER_TABLE = Pattern.compile(
+            "ALTER TABLE (\\w+)\\s+(.*?);", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void migrations(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Files.createTempDirectory("migrations");
+        for (Resource script : new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/*.sql")) {
+            String sql = script.getContentAsString(StandardCharsets.UTF_8);
+            Files.writeString(directory.resolve(script.getFilename()), toH2(sql));
+        }
+        registry.add("spring.flyway.locations", () -> "filesystem:" + directory);
+    }
+
+    @Test
+    void everyMigrationIsApplied() throws IOException {
+        int scripts = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/*.sql").length;
+
+        MigrationInfo[] applied = flyway.info().applied();
+        assertThat(applied).hasSize(scripts);
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    // ddl-auto=validate checks tables and columns only; indexes and unique keys are compared here
+    @Test
+    void declaredIndexesExistInTheMigratedSchema() {
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT index_name FROM information_schema.indexes WHERE table_schema = 'public'", String.class));
+        existing.addAll(jdbcTemplate.queryForList(
+                "SELECT constraint_name FROM information_schema.table_constraints WHERE table_schema = 'public'",
+                String.class));
+
+        Set<String> declared = new HashSet<>();
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            Table table = entity.getJavaType().getAnnotation(Table.class);
+            if (table == null) {
+                continue;
+            }
+            Arrays.stream(table.indexes()).map(Index::name).forEach(declared::add);
+            Arrays.stream(table.uniqueConstraints()).map(UniqueConstraint::name).forEach(declared::add);
+        }
+
+        assertThat(declared).isNotEmpty();
+        assertThat(existing).containsAll(declared);
+    }
+
+    /**
+     * Drops the MySQL online-DDL hints ({@code ALGORITHM = INPLACE, LOCK = NONE}) and splits ALTER
+     * statements with several comma-separated clauses into one statement per clause. Everything
+     * else, including the column and index definitions, is applied unchanged.
+     */
+    static String toH2(String sql) {
+        String withoutHints = ONLINE_DDL.matcher(sql).replaceAll("");
+        Matcher alter = ALTER_TABLE.matcher(withoutHints);
+        StringBuilder result = new StringBuilder();
+        while (alter.find()) {
+            String table = alter.group(1);
+            List<String> clauses = Arrays.asList(alter.group(2).split(",\\s*(?=ADD\\s)"));
+            String statements = clauses.stream()
+                    .map(clause -> "ALTER TABLE " + table + " " + clause.trim() + ";")
+                    .collect(Collectors.joining("\n"));
+            alter.appendReplacement(result, Matcher.quoteReplacement(statements));
+        }
+        alter.appendTail(result);
+        return result.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.workhub.server.repository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import com.workhub.server.entity.Company;
+import com.workhub.server.entity.CompanyUser;
+import com.workhub.server.entity.FileDeletion;
+import com.workhub.server.entity.FileReference;
+import com.workhub.server.entity.Job;
+import com.workhub.server.entity.Task;
+import com.workhub.server.entity.TaskComment;
+import com.workhub.server.entity.User;
+
+/**
+ * Hibernate bootstrap time against an up-to-date schema built by the migrations, for each
+ * {@code ddl-auto} mode: {@code update} (before migrations), {@code validate} (now) and {@code none}.
+ * Runs on embedded H2, so metadata round trips are much cheaper than against a remote MySQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 30)
+@Fork(1)
+public class SchemaStartupBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:startup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Param({"update", "validate", "none"})
+    public String ddlAuto;
+
+    @Setup
+    public void migrate() throws IOException {
+        Path directory = Files.createTempDirectory("migrations");
+        for (Resource script : new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/*.sql")) {
+            String sql = script.getContentAsString(StandardCharsets.UTF_8);
+            Files.writeString(directory.resolve(script.getFilename()), SchemaMigrationTests.toH2(sql));
+        }
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("filesystem:" + directory)
+                .load()
+                .migrate();
+    }
+
+    @Benchmark
+    public SessionFactory bootstrap() {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, URL)
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, ddlAuto)
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, new CamelCaseToUnderscoresNamingStrategy())
+                .applySetting(AvailableSettings.IMPLICIT_NAMING_STRATEGY, new SpringImplicitNamingStrategy())
+                .build();
+        SessionFactory sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClasses(User.class, Company.class, CompanyUser.class, Job.class, Task.class,
+                        TaskComment.class, FileDeletion.class, FileReference.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        sessionFactory.close();
+        return sessionFactory;
+    }
+}
@@ -0,0 +1,126 @@
+package com.workhub.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.workhub.server.constant.UserRole;
+
+/**
+ * Stateless mode: the principal comes from the token claims and the user is never loaded.
+ */
+class JwtAuthenticationFilterTests {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID companyId = UUID.randomUUID();
+    private final UserDetails user = new User("jane@acme.test", "hash",
+            List.of(new SimpleGrantedAuthority("ROLE_MANAGER")));
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UserDetailsService userDetailsService;
+    private TokenRevocationRegistry tokenRevocationRegistry;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret",
+                "test-secret-key-for-jwt-token-generation-at-least-256-bits-long");
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationMs", 60_000L);
+        jwtTokenProvider.init();
+
+        tokenRevocationRegistry = new TokenRevocationRegistry();
+        ReflectionTestUtils.setField(tokenRevocationRegistry, "jwtExpirationMs", 60_000L);
+        userDetailsService = mock(UserDetailsService.class);
+
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, tokenRevocationRegistry);
+        ReflectionTestUtils.setField(filter, "statelessAuthentication", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void principalIsBuiltFromClaimsWithoutLoadingTheUser() throws Exception {
+        filter.doFilter(request(token(Map.of(
+                AuthenticatedUser.CLAIM_USER_ID, userId.toString(),
+                AuthenticatedUser.CLAIM_ROLE, UserRole.MANAGER.name(),
+                AuthenticatedUser.CLAIM_COMPANY_ID, companyId.toString()))),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        assertThat(principal.getUserId()).isEqualTo(userId);
+        assertThat(principal.getEmail()).isEqualTo("jane@acme.test");
+        assertThat(principal.getRole()).isEqualTo(UserRole.MANAGER);
+        assertThat(principal.getCompanyId()).isEqualTo(companyId);
+        assertThat(authentication.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_MANAGER");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void revokedTokensAreNotAuthenticated() throws Exception {
+        String token = token(Map.of(
+                AuthenticatedUser.CLAIM_USER_ID, userId.toString(),
+                AuthenticatedUser.CLAIM_ROLE, UserRole.MANAGER.name()));
+        // Revocations have second precision like iat, so revoke from the next second on
+        Thread.sleep(1001 - System.currentTimeMillis() % 1000);
+        tokenRevocationRegistry.revokeAllTokens(userId);
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void tokensWithoutIdentityClaimsAreNotAuthenticated() throws Exception {
+        filter.doFilter(request(jwtTokenProvider.generateToken(user)), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void tamperedTokensAreNotAuthenticated() throws Exception {
+        String token = token(Map.of(
+                AuthenticatedUser.CLAIM_USER_ID, userId.toString(),
+                AuthenticatedUser.CLAIM_ROLE, UserRole.MANAGER.name()));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        filter.doFilter(request(tampered), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private String token(Map<String, Object> claims) {
+        return jwtTokenProvider.generateToken(user, claims);
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
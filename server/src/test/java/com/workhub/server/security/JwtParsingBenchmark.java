@@ -0,0 +1,77 @@
+package com.workhub.server.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Token handling per authenticated request: one parse with the cached parser against the previous
+ * filter, which rebuilt the key and parser and parsed the token three times (subject, then subject
+ * and expiration again while validating).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtParsingBenchmark {
+
+    private static final String SECRET =
+            "workhub-secret-key-for-jwt-token-generation-minimum-256-bits-long-for-production-use-strong-random-key";
+
+    private JwtTokenProvider provider;
+    private UserDetails user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 3_600_000L);
+        provider.init();
+        user = new User("jane@acme.test", "hash", List.of(new SimpleGrantedAuthority("ROLE_STAFF")));
+        token = provider.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean parseOnce() {
+        Claims claims = provider.parseToken(token);
+        return provider.validateToken(claims, user);
+    }
+
+    @Benchmark
+    public boolean parsePerClaim() {
+        String username = rebuildAndParse(token).getSubject();
+        boolean valid = rebuildAndParse(token).getSubject().equals(user.getUsername())
+                && !rebuildAndParse(token).getExpiration().before(new Date());
+        return username != null && valid;
+    }
+
+    private static Claims rebuildAndParse(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+}
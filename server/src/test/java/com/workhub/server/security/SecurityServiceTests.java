@@ -0,0 +1,158 @@
+package com.workhub.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.workhub.server.constant.UserRole;
+import com.workhub.server.entity.User;
+import com.workhub.server.repository.CompanyUserRepository;
+import com.workhub.server.repository.UserRepository;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Current-user lookups run at most once per request and again in the next one.
+ */
+class SecurityServiceTests {
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID currentCompanyId = UUID.randomUUID();
+    private final UUID otherCompanyId = UUID.randomUUID();
+
+    private User user;
+    private UserRepository userRepository;
+    private CompanyUserRepository companyUserRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private SecurityService securityService;
+    private ServletRequestAttributes request;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(userId);
+        user.setEmail("jane@acme.test");
+        user.setRole(UserRole.MANAGER);
+
+        userRepository = mock(UserRepository.class);
+        companyUserRepository = mock(CompanyUserRepository.class);
+        when(userRepository.findByEmail("jane@acme.test")).thenReturn(Optional.of(user));
+        when(companyUserRepository.findCompanyIdsByUserId(userId)).thenReturn(List.of(currentCompanyId, otherCompanyId));
+
+        meterRegistry = new SimpleMeterRegistry();
+        securityService = new SecurityService(userRepository, companyUserRepository, meterRegistry);
+        securityService.init();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "jane@acme.test", null, List.of(new SimpleGrantedAuthority("ROLE_MANAGER"))));
+        startRequest();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void lookupsRunOncePerRequest() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(securityService.getCurrentUser()).isPresent();
+            assertThat(securityService.getCurrentUserId()).contains(userId);
+            assertThat(securityService.getCurrentCompanyId()).contains(currentCompanyId);
+            assertThat(securityService.isCompanyMember(currentCompanyId)).isTrue();
+        }
+        verify(userRepository, times(1)).findByEmail(any());
+        verify(companyUserRepository, times(1)).findCompanyIdsByUserId(any());
+
+        // A new request sees changes made since the last one
+        request.requestCompleted();
+        startRequest();
+        securityService.getCurrentCompanyId();
+        verify(userRepository, times(2)).findByEmail(any());
+        verify(companyUserRepository, times(2)).findCompanyIdsByUserId(any());
+    }
+
+    @Test
+    void savedQueriesAreRecordedWhenTheRequestCompletes() {
+        securityService.getCurrentUser();
+        securityService.getCurrentUser();
+        securityService.getCurrentUser();
+
+        request.requestCompleted();
+
+        assertThat(meterRegistry.get("security.context.queries.saved").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void principalIdSkipsTheUserLookup() {
+        user.setIsActive(true);
+        AuthenticatedUser principal = AuthenticatedUser.fromUser(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        assertThat(securityService.getCurrentUserId()).contains(userId);
+        assertThat(securityService.hasRole(UserRole.MANAGER)).isTrue();
+        assertThat(securityService.hasAnyRole(UserRole.ADMIN, UserRole.STAFF)).isFalse();
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void principalCompanySkipsTheMembershipLookup() {
+        AuthenticatedUser principal = AuthenticatedUser.fromClaims(Jwts.claims()
+                .subject("jane@acme.test")
+                .add(AuthenticatedUser.CLAIM_USER_ID, userId.toString())
+                .add(AuthenticatedUser.CLAIM_ROLE, UserRole.MANAGER.name())
+                .add(AuthenticatedUser.CLAIM_COMPANY_ID, otherCompanyId.toString())
+                .build());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        assertThat(securityService.getCurrentCompanyId()).contains(otherCompanyId);
+        assertThat(securityService.isCompanyMember(otherCompanyId)).isTrue();
+        assertThat(securityService.isCompanyMember(currentCompanyId)).isFalse();
+        verify(companyUserRepository, never()).findCompanyIdsByUserId(any());
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void membershipIsTheCurrentCompanyOnly() {
+        assertThat(securityService.isCompanyMember(currentCompanyId)).isTrue();
+        assertThat(securityService.isCompanyMember(otherCompanyId)).isFalse();
+        assertThat(securityService.isCompanyMember(null)).isFalse();
+    }
+
+    @Test
+    void unauthenticatedCallersQueryNothing() {
+        SecurityContextHolder.clearContext();
+
+        assertThat(securityService.getCurrentUserId()).isEmpty();
+        assertThat(securityService.isCompanyMember(currentCompanyId)).isFalse();
+        assertThat(securityService.getCurrentRoleMask()).isZero();
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    private void startRequest() {
+        request = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(request);
+    }
+}
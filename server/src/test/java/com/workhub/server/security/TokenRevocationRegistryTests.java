@@ -0,0 +1,91 @@
+package com.workhub.server.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class TokenRevocationRegistryTests {
+
+    private final UUID userId = UUID.randomUUID();
+    private TokenRevocationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TokenRevocationRegistry();
+        ReflectionTestUtils.setField(registry, "jwtExpirationMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void tokensIssuedBeforeTheRevocationAreRejected() {
+        Date issuedEarlier = Date.from(Instant.now().minusSeconds(5));
+        assertThat(registry.isRevoked(userId, issuedEarlier)).isFalse();
+
+        registry.revokeAllTokens(userId);
+
+        assertThat(registry.isRevoked(userId, issuedEarlier)).isTrue();
+        assertThat(registry.isRevoked(userId, null)).isTrue();
+        assertThat(registry.isRevoked(userId, Date.from(Instant.now().plusSeconds(5)))).isFalse();
+        assertThat(registry.isRevoked(UUID.randomUUID(), issuedEarlier)).isFalse();
+    }
+
+    @Test
+    void tokenIssuedInTheSameSecondAsTheRevocationIsAccepted() {
+        registry.revokeAllTokens(userId);
+        // A token minted right after the revocation carries iat truncated to whole seconds
+        Date issuedAfter = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+
+        assertThat(registry.isRevoked(userId, issuedAfter)).isFalse();
+        assertThat(registry.isRevoked(userId, Date.from(issuedAfter.toInstant().minusSeconds(1)))).isTrue();
+    }
+
+    @Test
+    void revocationInsideATransactionWaitsForCommit() {
+        Date issuedEarlier = Date.from(Instant.now().minusSeconds(5));
+        TransactionSynchronizationManager.initSynchronization();
+
+        registry.revokeAllTokens(userId);
+        assertThat(registry.isRevoked(userId, issuedEarlier)).isFalse();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(registry.isRevoked(userId, issuedEarlier)).isTrue();
+    }
+
+    @Test
+    void rolledBackRevocationIsDiscarded() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        registry.revokeAllTokens(userId);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(registry.isRevoked(userId, null)).isFalse();
+    }
+
+    @Test
+    void entriesArePurgedOnceEveryEarlierTokenHasExpired() throws InterruptedException {
+        registry.revokeAllTokens(userId);
+        ReflectionTestUtils.setField(registry, "jwtExpirationMs", 0L);
+        Thread.sleep(5);
+
+        registry.purgeExpired();
+
+        assertThat(registry.isRevoked(userId, null)).isFalse();
+    }
+}
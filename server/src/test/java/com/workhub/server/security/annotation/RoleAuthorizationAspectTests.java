@@ -0,0 +1,151 @@
+package com.workhub.server.security.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Controller;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.workhub.server.constant.UserRole;
+import com.workhub.server.security.SecurityService;
+
+/**
+ * Class-level and method-level requirements are both enforced, whether the method was resolved at
+ * startup or on first call.
+ */
+@SuppressWarnings("unchecked")
+class RoleAuthorizationAspectTests {
+
+    private SecurityService securityService;
+    private RoleAuthorizationAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        securityService = mock(SecurityService.class);
+        ApplicationContext applicationContext = mock(ApplicationContext.class);
+        when(applicationContext.getBeansWithAnnotation(Controller.class)).thenReturn(Map.of(
+                "managerController", new ManagerController(),
+                "mixedController", new MixedController()));
+        aspect = new RoleAuthorizationAspect(securityService, applicationContext);
+        aspect.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void annotatedControllerMethodsAreResolvedAtStartup() throws NoSuchMethodException {
+        Map<Method, int[]> resolved = (Map<Method, int[]>) ReflectionTestUtils.getField(aspect, "requiredRoleMasks");
+
+        assertThat(resolved.get(ManagerController.class.getMethod("purge")))
+                .containsExactly(UserRole.ADMIN.mask() | UserRole.MANAGER.mask(), UserRole.ADMIN.mask());
+        assertThat(resolved.get(MixedController.class.getMethod("comment")))
+                .containsExactly(UserRole.MANAGER.mask() | UserRole.STAFF.mask());
+        assertThat(resolved).doesNotContainKey(MixedController.class.getMethod("open"));
+    }
+
+    @Test
+    void classLevelRolesApplyToEveryMethod() {
+        ManagerController controller = proxy(new ManagerController());
+
+        callAs(UserRole.MANAGER);
+        assertThatCode(controller::list).doesNotThrowAnyException();
+        callAs(UserRole.ADMIN);
+        assertThatCode(controller::list).doesNotThrowAnyException();
+        callAs(UserRole.STAFF);
+        assertThatThrownBy(controller::list).isInstanceOf(AccessDeniedException.class)
+                .hasMessage("Insufficient role to perform this action");
+    }
+
+    @Test
+    void classAndMethodLevelRolesMustBothMatch() {
+        ManagerController controller = proxy(new ManagerController());
+
+        callAs(UserRole.ADMIN);
+        assertThatCode(controller::purge).doesNotThrowAnyException();
+        // Passes the class-level requirement but not the method-level one
+        callAs(UserRole.MANAGER);
+        assertThatThrownBy(controller::purge).isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void methodLevelRolesApplyOnlyToTheirMethod() {
+        MixedController controller = proxy(new MixedController());
+
+        callAs(UserRole.STAFF);
+        assertThatCode(controller::comment).doesNotThrowAnyException();
+        assertThatCode(controller::open).doesNotThrowAnyException();
+        assertThatThrownBy(controller::approve).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(controller::misconfigured).isInstanceOf(AccessDeniedException.class)
+                .hasMessage("No role configured for this action");
+
+        callAs(null);
+        assertThatThrownBy(controller::comment).isInstanceOf(AccessDeniedException.class);
+        assertThatCode(controller::open).doesNotThrowAnyException();
+    }
+
+    @Test
+    void controllersMissedAtStartupAreResolvedOnFirstCall() {
+        LateController controller = proxy(new LateController());
+
+        callAs(UserRole.MANAGER);
+        assertThatThrownBy(controller::approve).isInstanceOf(AccessDeniedException.class);
+        callAs(UserRole.ADMIN);
+        assertThatCode(controller::approve).doesNotThrowAnyException();
+    }
+
+    private void callAs(UserRole role) {
+        when(securityService.getCurrentRoleMask()).thenReturn(role == null ? 0 : role.mask());
+    }
+
+    private <T> T proxy(T controller) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(controller);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+
+    @Controller
+    @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER})
+    public static class ManagerController {
+        public void list() {
+        }
+
+        @RequireRole(UserRole.ADMIN)
+        public void purge() {
+        }
+    }
+
+    @Controller
+    public static class MixedController {
+        @RequireAnyRole({UserRole.MANAGER, UserRole.STAFF})
+        public void comment() {
+        }
+
+        @RequireRole(UserRole.MANAGER)
+        public void approve() {
+        }
+
+        @RequireAnyRole({})
+        public void misconfigured() {
+        }
+
+        public void open() {
+        }
+    }
+
+    @Controller
+    public static class LateController {
+        @RequireRole(UserRole.ADMIN)
+        public void approve() {
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.workhub.server.security.annotation;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.workhub.server.constant.UserRole;
+import com.workhub.server.repository.CompanyUserRepository;
+import com.workhub.server.repository.UserRepository;
+import com.workhub.server.security.SecurityService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Role check on a controller call with class- and method-level annotations: the precomputed masks
+ * against the previous four annotation-bound advices, which streamed the caller's authorities and
+ * built a "ROLE_" string for every role compared.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoleCheckBenchmark {
+
+    private GuardedController precomputed;
+    private GuardedController perCallStreams;
+
+    @Setup
+    public void setUp() {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("jane@acme.test", null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        SecurityService securityService = new SecurityService(mock(UserRepository.class),
+                mock(CompanyUserRepository.class), new SimpleMeterRegistry());
+        ApplicationContext applicationContext = mock(ApplicationContext.class);
+        when(applicationContext.getBeansWithAnnotation(Controller.class))
+                .thenReturn(Map.of("guardedController", new GuardedController()));
+        RoleAuthorizationAspect aspect = new RoleAuthorizationAspect(securityService, applicationContext);
+        aspect.afterSingletonsInstantiated();
+
+        precomputed = proxy(aspect);
+        perCallStreams = proxy(new StreamingRoleAspect());
+    }
+
+    // The request-scoped security context lives as long as one request
+    @Setup(Level.Invocation)
+    public void startRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @TearDown(Level.Invocation)
+    public void endRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public int precomputedMasks() {
+        return precomputed.approve();
+    }
+
+    @Benchmark
+    public int perCallAuthorityStreams() {
+        return perCallStreams.approve();
+    }
+
+    private static GuardedController proxy(Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new GuardedController());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    @Controller
+    @RequireAnyRole({UserRole.ADMIN, UserRole.MANAGER})
+    public static class GuardedController {
+        @RequireRole(UserRole.ADMIN)
+        public int approve() {
+            return 1;
+        }
+    }
+
+    @Aspect
+    public static class StreamingRoleAspect {
+
+        @Before("@within(requireRole)")
+        public void checkClassLevelRole(RequireRole requireRole) {
+            enforceAnyRole(requireRole.value());
+        }
+
+        @Before("@annotation(requireRole)")
+        public void checkMethodLevelRole(RequireRole requireRole) {
+            enforceAnyRole(requireRole.value());
+        }
+
+        @Before("@within(requireAnyRole)")
+        public void checkClassLevelAnyRole(RequireAnyRole requireAnyRole) {
+            enforceAnyRole(requireAnyRole.value());
+        }
+
+        @Before("@annotation(requireAnyRole)")
+        public void checkMethodLevelAnyRole(RequireAnyRole requireAnyRole) {
+            enforceAnyRole(requireAnyRole.value());
+        }
+
+        private static void enforceAnyRole(UserRole... roles) {
+            if (!Arrays.stream(roles).anyMatch(StreamingRoleAspect::hasRole)) {
+                throw new AccessDeniedException("Insufficient role to perform this action");
+            }
+        }
+
+        private static boolean hasRole(UserRole role) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            return authentication != null && authentication.getAuthorities().stream()
+                    .anyMatch(authority -> authority.getAuthority().equals("ROLE_" + role.name()));
+        }
+    }
+}
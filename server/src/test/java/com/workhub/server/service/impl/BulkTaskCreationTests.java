@@ -0,0 +1,147 @@
+package com.workhub.server.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.workhub.server.cache.CountCache;
+import com.workhub.server.constant.JobPriority;
+import com.workhub.server.constant.JobStatus;
+import com.workhub.server.constant.TaskStatus;
+import com.workhub.server.constant.UserRole;
+import com.workhub.server.dto.request.BulkTaskRequest;
+import com.workhub.server.dto.request.TaskRequest;
+import com.workhub.server.dto.response.BulkTaskResponse;
+import com.workhub.server.entity.Company;
+import com.workhub.server.entity.Job;
+import com.workhub.server.entity.User;
+import com.workhub.server.mapper.TaskMapperImpl;
+import com.workhub.server.repository.TaskRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Bulk creation checks references with one IN query per table and sends the inserts in JDBC
+ * batches, so the statement count follows the batch size rather than the number of tasks.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=" + BulkTaskCreationTests.BATCH_SIZE,
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Import({TaskServiceImpl.class, TaskMapperImpl.class, CountCache.class, SimpleMeterRegistry.class})
+class BulkTaskCreationTests {
+
+    static final int BATCH_SIZE = 50;
+    private static final int TASKS = 123;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Statistics statistics;
+    private Company company;
+    private Job job;
+    private User assignee;
+
+    @BeforeEach
+    void setUp() {
+        company = new Company();
+        company.setName("Acme");
+        company.setAddress("1 Main St");
+        entityManager.persist(company);
+
+        assignee = new User();
+        assignee.setFullName("Jane Doe");
+        assignee.setEmail("jane@acme.test");
+        assignee.setPasswordHash("hash");
+        assignee.setRole(UserRole.STAFF);
+        entityManager.persist(assignee);
+
+        job = new Job();
+        job.setCompany(company);
+        job.setOwner(assignee);
+        job.setTitle("Launch");
+        job.setStatus(JobStatus.IN_PROGRESS);
+        job.setPriority(JobPriority.HIGH);
+        entityManager.persist(job);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void invalidItemsAreReportedByIndexAndTheRestCreated() {
+        List<TaskRequest> items = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            items.add(task("Task " + i));
+        }
+        UUID missing = UUID.randomUUID();
+        items.get(1).setCompanyId(missing);
+        items.get(60).setJobId(missing);
+        items.get(122).setAssigneeId(missing);
+
+        BulkTaskResponse response = taskService.createTasks(new BulkTaskRequest(items));
+        entityManager.flush();
+
+        assertThat(response.getCreated()).isEqualTo(TASKS - 3);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getResults()).extracting(BulkTaskResponse.ItemResult::getIndex)
+                .containsExactlyElementsOf(items.stream().map(items::indexOf).toList());
+        assertThat(response.getResults().get(1).getError()).contains(missing.toString()).containsIgnoringCase("company");
+        assertThat(response.getResults().get(60).getError()).containsIgnoringCase("job");
+        assertThat(response.getResults().get(122).getError()).containsIgnoringCase("user");
+        assertThat(response.getResults().get(0).getId()).isNotNull();
+        assertThat(response.getResults().get(1).getId()).isNull();
+
+        // Three IN lookups plus one insert statement reused for every batch of BATCH_SIZE; without
+        // batching each task would prepare its own insert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(TASKS - 3);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(taskRepository.count()).isEqualTo(TASKS - 3);
+    }
+
+    @Test
+    void referencesAreCheckedOncePerTable() {
+        List<TaskRequest> items = List.of(task("One"), task("Two"), task("Three"));
+
+        taskService.createTasks(new BulkTaskRequest(items));
+
+        // Repeated ids are collapsed into one IN query per referenced table, and nothing is inserted yet
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(3);
+    }
+
+    private TaskRequest task(String title) {
+        return TaskRequest.builder()
+                .companyId(company.getId())
+                .jobId(job.getId())
+                .assigneeId(assignee.getId())
+                .title(title)
+                .status(TaskStatus.TODO)
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package com.workhub.server.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.workhub.server.cache.CountCache;
+import com.workhub.server.constant.DeletionStatus;
+import com.workhub.server.constant.JobPriority;
+import com.workhub.server.constant.JobStatus;
+import com.workhub.server.constant.TaskStatus;
+import com.workhub.server.constant.UserRole;
+import com.workhub.server.dto.response.DeletionProgressResponse;
+import com.workhub.server.entity.Company;
+import com.workhub.server.entity.CompanyUser;
+import com.workhub.server.entity.Job;
+import com.workhub.server.entity.Task;
+import com.workhub.server.entity.TaskComment;
+import com.workhub.server.entity.User;
+import com.workhub.server.mapper.CompanyMapperImpl;
+import com.workhub.server.mapper.JobMapperImpl;
+import com.workhub.server.mapper.UserMapperImpl;
+import com.workhub.server.repository.CompanyRepository;
+import com.workhub.server.repository.CompanyUserRepository;
+import com.workhub.server.repository.JobRepository;
+import com.workhub.server.repository.TaskCommentRepository;
+import com.workhub.server.repository.TaskRepository;
+import com.workhub.server.service.FileDeletionService;
+import com.workhub.server.service.ThumbnailService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs the cascade inline with a batch size smaller than every child set, so each stage needs several batches.
+ */
+@DataJpaTest(properties = "deletion.batch-size=2")
+@Import({CascadeDeleteServiceImpl.class, CompanyServiceImpl.class, JobServiceImpl.class, CompanyMapperImpl.class,
+        UserMapperImpl.class, JobMapperImpl.class, CountCache.class, SimpleMeterRegistry.class})
+class CascadeDeleteTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CascadeDeleteServiceImpl cascadeDeleteService;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private CompanyUserRepository companyUserRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCommentRepository taskCommentRepository;
+
+    @MockitoBean
+    private FileDeletionService fileDeletionService;
+
+    @MockitoBean
+    private ThumbnailService thumbnailService;
+
+    private Company company;
+    private Job launch;
+    private Job support;
+
+    @BeforeEach
+    void setUp() {
+        company = new Company();
+        company.setName("Acme");
+        company.setAddress("1 Main St");
+        entityManager.persist(company);
+
+        User owner = null;
+        for (int i = 0; i < 3; i++) {
+            User user = new User();
+            user.setFullName("User " + i);
+            user.setEmail("user" + i + "@acme.test");
+            user.setPasswordHash("hash");
+            user.setRole(UserRole.STAFF);
+            entityManager.persist(user);
+            entityManager.persist(new CompanyUser(null, company, user, null));
+            owner = user;
+        }
+
+        launch = persistJob("Launch", owner, 3);
+        support = persistJob("Support", owner, 2);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void companyDeletionRemovesEverySubtreeInBatches() {
+        DeletionProgressResponse progress = cascadeDeleteService.deleteCompany(company.getId(), false);
+
+        assertThat(progress.getStatus()).isEqualTo(DeletionStatus.COMPLETED);
+        assertThat(progress.getCommentsDeleted()).isEqualTo(10);
+        assertThat(progress.getTasksDeleted()).isEqualTo(5);
+        assertThat(progress.getJobsDeleted()).isEqualTo(2);
+        assertThat(progress.getMembershipsDeleted()).isEqualTo(3);
+        assertThat(progress.getFinishedAt()).isNotNull();
+
+        assertThat(taskCommentRepository.count()).isZero();
+        assertThat(taskRepository.count()).isZero();
+        assertThat(jobRepository.count()).isZero();
+        assertThat(companyUserRepository.count()).isZero();
+        assertThat(companyRepository.existsById(company.getId())).isFalse();
+        assertThat(cascadeDeleteService.getProgress(progress.getId())).isEqualTo(progress);
+    }
+
+    @Test
+    void companyDeletionRemovesTasksOfOtherCompaniesOnItsJobs() {
+        Company other = new Company();
+        other.setName("Other");
+        other.setAddress("2 Side St");
+        entityManager.persist(other);
+        Job job = entityManager.find(Job.class, launch.getId());
+        Task task = new Task();
+        task.setCompany(other);
+        task.setJob(job);
+        task.setAssignee(job.getOwner());
+        task.setTitle("Borrowed task");
+        task.setStatus(TaskStatus.TODO);
+        entityManager.persist(task);
+        TaskComment comment = new TaskComment();
+        comment.setTask(task);
+        comment.setUser(job.getOwner());
+        comment.setMessage("Comment");
+        entityManager.persist(comment);
+        entityManager.flush();
+        entityManager.clear();
+
+        DeletionProgressResponse progress = cascadeDeleteService.deleteCompany(company.getId(), false);
+
+        assertThat(progress.getStatus()).isEqualTo(DeletionStatus.COMPLETED);
+        assertThat(progress.getTasksDeleted()).isEqualTo(6);
+        assertThat(progress.getCommentsDeleted()).isEqualTo(11);
+        assertThat(taskRepository.count()).isZero();
+        assertThat(taskCommentRepository.count()).isZero();
+        assertThat(companyRepository.existsById(other.getId())).isTrue();
+    }
+
+    @Test
+    void jobDeletionLeavesSiblingJobsAlone() {
+        DeletionProgressResponse progress = cascadeDeleteService.deleteJob(launch.getId(), false);
+
+        assertThat(progress.getStatus()).isEqualTo(DeletionStatus.COMPLETED);
+        assertThat(progress.getCommentsDeleted()).isEqualTo(6);
+        assertThat(progress.getTasksDeleted()).isEqualTo(3);
+        assertThat(progress.getJobsDeleted()).isEqualTo(1);
+
+        assertThat(jobRepository.existsById(launch.getId())).isFalse();
+        assertThat(jobRepository.existsById(support.getId())).isTrue();
+        assertThat(taskRepository.count()).isEqualTo(2);
+        assertThat(taskCommentRepository.count()).isEqualTo(4);
+    }
+
+    private Job persistJob(String title, User owner, int tasks) {
+        Job job = new Job();
+        job.setCompany(company);
+        job.setOwner(owner);
+        job.setTitle(title);
+        job.setStatus(JobStatus.IN_PROGRESS);
+        job.setPriority(JobPriority.HIGH);
+        entityManager.persist(job);
+
+        for (int i = 0; i < tasks; i++) {
+            Task task = new Task();
+            task.setCompany(company);
+            task.setJob(job);
+            task.setAssignee(owner);
+            task.setTitle(title + " task " + i);
+            task.setStatus(TaskStatus.TODO);
+            entityManager.persist(task);
+
+            for (int c = 0; c < 2; c++) {
+                TaskComment comment = new TaskComment();
+                comment.setTask(task);
+                comment.setUser(owner);
+                comment.setMessage("Comment " + c);
+                entityManager.persist(comment);
+            }
+        }
+        return job;
+    }
+}
@@ -0,0 +1,66 @@
+package com.workhub.server.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.workhub.server.constant.UserRole;
+import com.workhub.server.entity.Company;
+import com.workhub.server.entity.CompanyUser;
+import com.workhub.server.entity.User;
+import com.workhub.server.repository.CompanyUserRepository;
+
+/**
+ * Only a violation of the membership unique key is reported as "already a member".
+ */
+@DataJpaTest
+class CompanyServiceTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CompanyUserRepository companyUserRepository;
+
+    private Company company;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        company = new Company();
+        company.setName("Acme");
+        company.setAddress("1 Main St");
+        entityManager.persist(company);
+
+        user = new User();
+        user.setFullName("Jane Doe");
+        user.setEmail("jane@acme.test");
+        user.setPasswordHash("hash");
+        user.setRole(UserRole.STAFF);
+        entityManager.persist(user);
+        entityManager.persist(new CompanyUser(null, company, user, null));
+        entityManager.flush();
+    }
+
+    @Test
+    void duplicateMembershipIsRecognized() {
+        DataIntegrityViolationException e = catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> companyUserRepository.saveAndFlush(new CompanyUser(null, company, user, null)));
+
+        assertThat(CompanyServiceImpl.isDuplicateMembership(e)).isTrue();
+    }
+
+    @Test
+    void otherViolationsAreNotReportedAsDuplicates() {
+        DataIntegrityViolationException e = catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> companyUserRepository.saveAndFlush(new CompanyUser(null, company, null, null)));
+
+        assertThat(CompanyServiceImpl.isDuplicateMembership(e)).isFalse();
+    }
+}
@@ -0,0 +1,158 @@
+package com.workhub.server.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.workhub.server.entity.FileDeletion;
+import com.workhub.server.repository.FileDeletionRepository;
+import com.workhub.server.repository.FileReferenceRepository;
+import com.workhub.server.service.FileStorageService;
+import com.workhub.server.service.PresignedUrl;
+import com.workhub.server.service.StoredFile;
+
+@DataJpaTest(properties = {"file-deletion.batch-size=2", "aws.s3.content-addressed=true",
+        "file-deletion.shared-object-grace=0s"})
+@Import({FileDeletionServiceImpl.class, FileReferenceServiceImpl.class,
+        FileDeletionServiceTests.InMemoryFileStorageService.class})
+class FileDeletionServiceTests {
+
+    @Autowired
+    private FileDeletionServiceImpl fileDeletionService;
+
+    @Autowired
+    private FileDeletionRepository fileDeletionRepository;
+
+    @Autowired
+    private FileReferenceServiceImpl fileReferenceService;
+
+    @Autowired
+    private FileReferenceRepository fileReferenceRepository;
+
+    @Autowired
+    private InMemoryFileStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        storage.objects.addAll(Set.of("uploads/a.png", "uploads/b.png", "logos/c.png"));
+        storage.failing.clear();
+        storage.batches = 0;
+    }
+
+    @Test
+    void drainDeletesQueuedObjectsInBatches() {
+        storage.objects.forEach(fileDeletionService::enqueue);
+
+        assertThat(fileDeletionService.drain()).isEqualTo(3);
+        assertThat(storage.objects).isEmpty();
+        assertThat(storage.batches).isEqualTo(2);
+        assertThat(fileDeletionRepository.count()).isZero();
+    }
+
+    @Test
+    void failedDeletesAreRetriedLater() {
+        storage.failing.add("logos/c.png");
+        storage.objects.forEach(fileDeletionService::enqueue);
+
+        assertThat(fileDeletionService.drain()).isEqualTo(2);
+        assertThat(storage.objects).containsExactly("logos/c.png");
+
+        FileDeletion retry = fileDeletionRepository.findAll().get(0);
+        assertThat(retry.getObjectKey()).isEqualTo("logos/c.png");
+        assertThat(retry.getAttempts()).isEqualTo(1);
+        assertThat(retry.getLastError()).isNotBlank();
+        assertThat(retry.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+        // Not due yet
+        assertThat(fileDeletionService.drain()).isZero();
+    }
+
+    @Test
+    void sharedObjectsAreDeletedWithTheirLastReference() {
+        StoredFile shared = new StoredFile("uploads/a.png", 10, "image/png");
+        fileReferenceService.retain(shared);
+        fileReferenceService.retain(shared);
+
+        // Still referenced by the other upload
+        fileDeletionService.enqueue("uploads/a.png");
+        assertThat(fileDeletionRepository.count()).isZero();
+
+        // Uploaded again before the drainer got to it: the queued delete is cancelled
+        fileDeletionService.enqueue("uploads/a.png");
+        fileReferenceService.retain(shared);
+        assertThat(fileDeletionService.drain()).isZero();
+        assertThat(fileDeletionRepository.count()).isZero();
+        assertThat(storage.objects).contains("uploads/a.png");
+
+        fileDeletionService.enqueue("uploads/a.png");
+        assertThat(fileDeletionService.drain()).isEqualTo(1);
+        assertThat(storage.objects).doesNotContain("uploads/a.png");
+        assertThat(fileReferenceRepository.count()).isZero();
+    }
+
+    static class InMemoryFileStorageService implements FileStorageService {
+        final Set<String> objects = new HashSet<>();
+        final Set<String> failing = new HashSet<>();
+        int batches;
+
+        @Override
+        public String upload(MultipartFile file, String folder) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public StoredFile upload(InputStream content, String folder) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PresignedUrl presignUpload(String folder, String contentType, long size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PresignedUrl presignDownload(String key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public StoredFile completeUpload(String key, String contentType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InputStream open(String key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void store(String key, byte[] content, String contentType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(String key) {
+            if (failing.contains(key)) {
+                throw new IllegalStateException("Simulated storage failure for " + key);
+            }
+            objects.remove(key);
+        }
+
+        @Override
+        public Set<String> deleteAll(Collection<String> keys) {
+            batches++;
+            return FileStorageService.super.deleteAll(keys);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.workhub.server.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.workhub.server.entity.FileDeletion;
+import com.workhub.server.exception.custom.UploadNotFoundException;
+import com.workhub.server.repository.FileDeletionRepository;
+import com.workhub.server.service.FileStorageService;
+import com.workhub.server.service.PresignedUrl;
+import com.workhub.server.service.StoredFile;
+
+/**
+ * Only keys issued by a presign can be completed, once, and rejected uploads go through the deletion outbox.
+ */
+@DataJpaTest
+@Import({PresignedUploadServiceImpl.class, FileDeletionServiceImpl.class, FileReferenceServiceImpl.class})
+class PresignedUploadServiceTests {
+
+    private static final String KEY = "uploads/0b7f.png";
+
+    @Autowired
+    private PresignedUploadServiceImpl presignedUploadService;
+
+    @Autowired
+    private FileDeletionRepository fileDeletionRepository;
+
+    @MockitoBean
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        when(fileStorageService.presignUpload("uploads", "image/png", 1234)).thenReturn(
+                new PresignedUrl(KEY, "https://s3/" + KEY, "PUT", Map.of(), Instant.now().plusSeconds(60)));
+    }
+
+    @Test
+    void keysThatWereNeverIssuedAreNotCompleted() {
+        assertThatThrownBy(() -> presignedUploadService.complete("uploads/legacy.jpg"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(fileStorageService, never()).completeUpload(anyString(), anyString());
+        verify(fileStorageService, never()).delete(any());
+        assertThat(fileDeletionRepository.count()).isZero();
+    }
+
+    @Test
+    void issuedUploadsCompleteOnce() {
+        StoredFile stored = new StoredFile(KEY, 1234, "image/png");
+        when(fileStorageService.completeUpload(KEY, "image/png"))
+                .thenThrow(new UploadNotFoundException(KEY))
+                .thenReturn(stored);
+        presignedUploadService.issue("uploads", "image/png", 1234);
+
+        // Completing before the client's PUT arrived leaves the key pending
+        assertThatThrownBy(() -> presignedUploadService.complete(KEY)).isInstanceOf(UploadNotFoundException.class);
+        assertThat(presignedUploadService.complete(KEY)).isEqualTo(stored);
+
+        assertThatThrownBy(() -> presignedUploadService.complete(KEY)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectedUploadsAreQueuedForDeletion() {
+        when(fileStorageService.completeUpload(KEY, "image/png"))
+                .thenThrow(new IllegalArgumentException("File content does not match its declared type"));
+        presignedUploadService.issue("uploads", "image/png", 1234);
+
+        assertThatThrownBy(() -> presignedUploadService.complete(KEY))
+                .hasMessage("File content does not match its declared type");
+
+        verify(fileStorageService, never()).delete(any());
+        assertThat(fileDeletionRepository.findAll()).extracting(FileDeletion::getObjectKey).containsExactly(KEY);
+        assertThatThrownBy(() -> presignedUploadService.complete(KEY))
+                .hasMessageStartingWith("No pending upload");
+    }
+}
@@ -0,0 +1,134 @@
+package com.workhub.server.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.workhub.server.config.AwsProperties;
+import com.workhub.server.service.FileReferenceService;
+import com.workhub.server.service.StoredFile;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+class S3AsyncFileStorageServiceTests {
+
+    private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private SimpleMeterRegistry meterRegistry;
+    private HeldS3AsyncClient s3AsyncClient;
+    private S3AsyncFileStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        AwsProperties properties = new AwsProperties();
+        properties.getS3().setBucket("test-bucket");
+        properties.getAsync().setMaxConcurrency(2);
+        meterRegistry = new SimpleMeterRegistry();
+        s3AsyncClient = new HeldS3AsyncClient();
+        storage = new S3AsyncFileStorageService(s3AsyncClient, properties, meterRegistry,
+                mock(FileReferenceService.class));
+        storage.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.shutdown();
+    }
+
+    @Test
+    void uploadCompletesWhenS3Responds() throws Exception {
+        byte[] content = new byte[64 * 1024];
+        System.arraycopy(PNG_HEADER, 0, content, 0, PNG_HEADER.length);
+
+        CompletableFuture<StoredFile> upload = storage.upload(
+                new MockMultipartFile("file", "logo.png", "application/octet-stream", content), "uploads");
+
+        // The caller gets the future back while the call is still in flight
+        assertThat(upload).isNotDone();
+        assertThat(meterRegistry.get("s3.client.calls.active").gauge().value()).isEqualTo(1);
+
+        byte[] received = s3AsyncClient.respond().get(5, TimeUnit.SECONDS);
+        StoredFile stored = upload.get(5, TimeUnit.SECONDS);
+        assertThat(received).isEqualTo(content);
+        assertThat(stored.key()).startsWith("uploads/").endsWith(".png");
+        assertThat(stored.contentType()).isEqualTo("image/png");
+        assertThat(meterRegistry.get("s3.client.calls.active").gauge().value()).isZero();
+        assertThat(meterRegistry.get("s3.client.calls").tags("operation", "PutObject", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    /**
+     * Holds each put until {@link #respond()} so tests can observe calls in flight.
+     */
+    static class HeldS3AsyncClient implements S3AsyncClient {
+        private final Map<CompletableFuture<PutObjectResponse>, CompletableFuture<byte[]>> held =
+                new ConcurrentHashMap<>();
+
+        @Override
+        public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest request, AsyncRequestBody body) {
+            CompletableFuture<PutObjectResponse> response = new CompletableFuture<>();
+            CompletableFuture<byte[]> received = new CompletableFuture<>();
+            body.subscribe(new Subscriber<ByteBuffer>() {
+                private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ByteBuffer buffer) {
+                    byte[] chunk = new byte[buffer.remaining()];
+                    buffer.get(chunk);
+                    bytes.writeBytes(chunk);
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    received.completeExceptionally(error);
+                }
+
+                @Override
+                public void onComplete() {
+                    received.complete(bytes.toByteArray());
+                }
+            });
+            held.put(response, received);
+            return response;
+        }
+
+        CompletableFuture<byte[]> respond() {
+            Map.Entry<CompletableFuture<PutObjectResponse>, CompletableFuture<byte[]>> call =
+                    held.entrySet().iterator().next();
+            held.remove(call.getKey());
+            return call.getValue().whenComplete((bytes, error) ->
+                    call.getKey().complete(PutObjectResponse.builder().build()));
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,530 @@
+package com.workhub.server.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.workhub.server.config.AwsProperties;
+import com.workhub.server.exception.custom.UploadCapacityExceededException;
+import com.workhub.server.exception.custom.UploadNotFoundException;
+import com.workhub.server.service.FileReferenceService;
+import com.workhub.server.service.PresignedUrl;
+import com.workhub.server.service.StoredFile;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * Runs against an in-memory S3 stand-in: concurrent streaming uploads arrive byte-for-byte within the
+ * part buffer bound, and presigned uploads are validated on completion without reading the whole object.
+ */
+class S3FileStorageServiceTests {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+    private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private AwsProperties properties;
+    private InMemoryS3Client s3Client;
+    private InMemoryFileReferences references;
+    private S3FileStorageService storage;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AwsProperties();
+        properties.getS3().setBucket("test-bucket");
+        properties.setRegion("ap-southeast-1");
+        s3Client = new InMemoryS3Client();
+        references = new InMemoryFileReferences();
+        // The presigner signs locally, so a real one with dummy credentials needs no network
+        S3Presigner presigner = S3Presigner.builder()
+                .region(Region.of(properties.getRegion()))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .build();
+        storage = new S3FileStorageService(s3Client, presigner, properties, references);
+    }
+
+    @Test
+    void concurrentUploadsArriveIntact() throws Exception {
+        int uploads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(uploads);
+        try {
+            List<Future<Map.Entry<StoredFile, byte[]>>> results = new ArrayList<>();
+            for (int i = 0; i < uploads; i++) {
+                // Alternate multipart (two parts) and single-put sizes
+                byte[] content = png(i % 2 == 0 ? PART_SIZE + 123_456 : 1024, i);
+                results.add(executor.submit(() -> Map.entry(
+                        storage.upload(new ByteArrayInputStream(content), "uploads"), content)));
+            }
+
+            for (Future<Map.Entry<StoredFile, byte[]>> result : results) {
+                StoredFile stored = result.get().getKey();
+                byte[] content = result.get().getValue();
+                assertThat(stored.key()).startsWith("uploads/").endsWith(".png");
+                assertThat(stored.contentType()).isEqualTo("image/png");
+                assertThat(stored.size()).isEqualTo(content.length);
+                assertThat(s3Client.objects.get(stored.key())).isEqualTo(content);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(s3Client.multipartUploads).hasValue(uploads / 2);
+        assertThat(s3Client.pending).isEmpty();
+    }
+
+    @Test
+    void largeUploadsShareABoundedSetOfPartBuffers() throws Exception {
+        properties.getS3().setUploadPartBuffers(2);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        s3Client = new InMemoryS3Client() {
+            @Override
+            public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+                peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                    return super.uploadPart(request, body);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        };
+        storage = new S3FileStorageService(s3Client, null, properties, references);
+
+        int uploads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(uploads);
+        try {
+            List<Future<StoredFile>> results = new ArrayList<>();
+            for (int i = 0; i < uploads; i++) {
+                byte[] content = png(PART_SIZE + 1024, i);
+                results.add(executor.submit(() -> storage.upload(new ByteArrayInputStream(content), "uploads")));
+            }
+            for (Future<StoredFile> result : results) {
+                assertThat(result.get().size()).isEqualTo(PART_SIZE + 1024);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Eight uploads ran, but never more than the two buffers' worth of parts at once
+        assertThat(s3Client.multipartUploads).hasValue(uploads);
+        assertThat(peak.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void uploadsBeyondThePoolFailAfterWaitingWhileSmallOnesProceed() throws Exception {
+        properties.getS3().setUploadPartBuffers(1);
+        properties.getS3().setUploadPartBufferWait(Duration.ofMillis(100));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        s3Client = new InMemoryS3Client() {
+            @Override
+            public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+                if (request.key().startsWith("held/")) {
+                    holding.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                return super.putObject(request, body);
+            }
+        };
+        storage = new S3FileStorageService(s3Client, null, properties, references);
+        byte[] medium = png(1024 * 1024, 1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<StoredFile> held = executor.submit(() -> storage.upload(new ByteArrayInputStream(medium), "held"));
+            assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> storage.upload(new ByteArrayInputStream(medium), "uploads"))
+                    .isInstanceOf(UploadCapacityExceededException.class);
+            // Small files are buffered at their own size and never wait for the pool
+            assertThat(storage.upload(new ByteArrayInputStream(png(1024, 2)), "uploads").size()).isEqualTo(1024);
+
+            release.countDown();
+            assertThat(held.get(5, TimeUnit.SECONDS).size()).isEqualTo(medium.length);
+            // The returned buffer is handed to the next upload
+            assertThat(storage.upload(new ByteArrayInputStream(medium), "uploads").size()).isEqualTo(medium.length);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void oversizedUploadIsAborted() {
+        byte[] content = png(11 * 1024 * 1024, 0);
+
+        assertThatThrownBy(() -> storage.upload(new ByteArrayInputStream(content), "uploads"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(s3Client.objects).isEmpty();
+        assertThat(s3Client.pending).isEmpty();
+    }
+
+    @Test
+    void contentTypeIsDetectedFromLeadingBytes() {
+        byte[] pdf = "%PDF-1.7 minimal".getBytes();
+        assertThat(storage.upload(new ByteArrayInputStream(pdf), "uploads").contentType())
+                .isEqualTo("application/pdf");
+
+        byte[] script = "<script>alert(1)</script>".getBytes();
+        assertThatThrownBy(() -> storage.upload(new ByteArrayInputStream(script), "uploads"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("File type is not supported");
+    }
+
+    @Test
+    void contentAddressedUploadsStoreIdenticalContentOnce() {
+        properties.getS3().setContentAddressed(true);
+        byte[] small = png(1024, 1);
+        byte[] large = png(PART_SIZE + 123_456, 2);
+
+        StoredFile first = storage.upload(new ByteArrayInputStream(small), "uploads");
+        StoredFile second = storage.upload(new ByteArrayInputStream(small), "uploads");
+        assertThat(second.key()).isEqualTo(first.key()).matches("uploads/[0-9a-f]{64}\\.png");
+        assertThat(s3Client.puts).hasValue(1);
+
+        StoredFile firstLarge = storage.upload(new ByteArrayInputStream(large), "uploads");
+        StoredFile secondLarge = storage.upload(new ByteArrayInputStream(large), "uploads");
+        assertThat(secondLarge.key()).isEqualTo(firstLarge.key()).isNotEqualTo(first.key());
+        assertThat(s3Client.copies).hasValue(1);
+
+        // Only the two content keys remain; temporary multipart keys are cleaned up
+        assertThat(s3Client.objects).containsOnlyKeys(first.key(), firstLarge.key());
+        assertThat(s3Client.objects.get(firstLarge.key())).isEqualTo(large);
+    }
+
+    @Test
+    void contentAddressedUploadsAreCountedBeforeTheyAreSkipped() {
+        properties.getS3().setContentAddressed(true);
+        byte[] small = png(1024, 1);
+
+        StoredFile first = storage.upload(new ByteArrayInputStream(small), "uploads");
+        StoredFile second = storage.upload(new ByteArrayInputStream(small), "uploads");
+        assertThat(references.counts).containsEntry(first.key(), 2);
+
+        // Counted but gone from the bucket: the upload sends the object instead of trusting the count
+        s3Client.objects.remove(first.key());
+        StoredFile third = storage.upload(new ByteArrayInputStream(small), "uploads");
+        assertThat(third.key()).isEqualTo(second.key());
+        assertThat(s3Client.objects.get(third.key())).isEqualTo(small);
+        assertThat(s3Client.puts).hasValue(2);
+    }
+
+    @Test
+    void failedCopyToTheContentKeyLeavesNothingBehind() {
+        properties.getS3().setContentAddressed(true);
+        s3Client.failCopies = true;
+
+        assertThatThrownBy(() -> storage.upload(new ByteArrayInputStream(png(PART_SIZE + 123_456, 2)), "uploads"))
+                .isInstanceOf(S3Exception.class);
+        assertThat(s3Client.objects).isEmpty();
+        assertThat(references.findReferenced(references.counts.keySet())).isEmpty();
+    }
+
+    @Test
+    void contentBeingDeletedIsStoredUnderAKeyOfItsOwn() {
+        properties.getS3().setContentAddressed(true);
+        references.deleting = true;
+        byte[] small = png(1024, 1);
+        byte[] large = png(PART_SIZE + 123_456, 2);
+
+        StoredFile stored = storage.upload(new ByteArrayInputStream(small), "uploads");
+        StoredFile storedLarge = storage.upload(new ByteArrayInputStream(large), "uploads");
+
+        assertThat(stored.key()).doesNotMatch("uploads/[0-9a-f]{64}\\.png");
+        assertThat(storedLarge.key()).doesNotMatch("uploads/[0-9a-f]{64}\\.png");
+        assertThat(s3Client.objects).containsOnlyKeys(stored.key(), storedLarge.key());
+        assertThat(s3Client.objects.get(storedLarge.key())).isEqualTo(large);
+        assertThat(references.counts).isEmpty();
+    }
+
+    @Test
+    void presignedUrlsSignTheDeclaredUpload() {
+        PresignedUrl upload = storage.presignUpload("uploads", "image/png", 1234);
+        assertThat(upload.key()).startsWith("uploads/").endsWith(".png");
+        assertThat(upload.method()).isEqualTo("PUT");
+        assertThat(upload.url()).contains("test-bucket", upload.key(), "X-Amz-Signature=");
+        assertThat(upload.headers())
+                .containsEntry("content-type", "image/png")
+                .containsEntry("content-length", "1234")
+                .doesNotContainKey("host");
+        assertThat(upload.expiresAt()).isAfter(Instant.now());
+
+        PresignedUrl download = storage.presignDownload(upload.key());
+        assertThat(download.method()).isEqualTo("GET");
+        assertThat(download.url()).contains(upload.key(), "X-Amz-Signature=");
+
+        assertThatThrownBy(() -> storage.presignUpload("uploads", "text/html", 1234))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.presignUpload("uploads", "image/png", 11 * 1024 * 1024))
+                .isInstanceOf(IllegalArgumentException.class);
+        // Signing never calls S3
+        assertThat(s3Client.objects).isEmpty();
+    }
+
+    @Test
+    void completedUploadsAreCheckedAgainstTheirDeclaredType() {
+        byte[] content = png(4096, 1);
+        clientPut("uploads/valid.png", "image/png", content);
+        StoredFile stored = storage.completeUpload("uploads/valid.png", "image/png");
+        assertThat(stored.size()).isEqualTo(content.length);
+        assertThat(stored.contentType()).isEqualTo("image/png");
+        // Only the signature bytes are read back
+        assertThat(s3Client.bytesRead).hasValue(PNG_HEADER.length);
+
+        clientPut("uploads/disguised.png", "image/png", "%PDF-1.7 minimal".getBytes());
+        assertThatThrownBy(() -> storage.completeUpload("uploads/disguised.png", "image/png"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("File content does not match its declared type");
+        // Left for the caller to queue for deletion
+        assertThat(s3Client.objects).containsKey("uploads/disguised.png");
+
+        assertThatThrownBy(() -> storage.completeUpload("uploads/missing.png", "image/png"))
+                .isInstanceOf(UploadNotFoundException.class);
+    }
+
+    private void clientPut(String key, String contentType, byte[] content) {
+        s3Client.putObject(PutObjectRequest.builder().bucket("test-bucket").key(key).contentType(contentType).build(),
+                RequestBody.fromBytes(content));
+    }
+
+    private static byte[] png(int size, long seed) {
+        byte[] content = new byte[size];
+        new Random(seed).nextBytes(content);
+        System.arraycopy(PNG_HEADER, 0, content, 0, PNG_HEADER.length);
+        return content;
+    }
+
+    static class InMemoryFileReferences implements FileReferenceService {
+        final Map<String, Integer> counts = new ConcurrentHashMap<>();
+        volatile boolean deleting;
+
+        @Override
+        public Retain retain(StoredFile file) {
+            if (deleting) {
+                return Retain.DELETING;
+            }
+            return counts.merge(file.key(), 1, Integer::sum) == 1 ? Retain.NEW : Retain.EXISTING;
+        }
+
+        @Override
+        public Release release(String key) {
+            Integer count = counts.computeIfPresent(key, (k, current) -> current - 1);
+            return count == null ? Release.UNTRACKED : count > 0 ? Release.REFERENCED : Release.UNREFERENCED;
+        }
+
+        @Override
+        public Set<String> findReferenced(Collection<String> keys) {
+            return keys.stream().filter(key -> counts.getOrDefault(key, 0) > 0).collect(Collectors.toSet());
+        }
+
+        @Override
+        public Set<String> claimUnreferenced(Collection<String> keys) {
+            Set<String> referenced = findReferenced(keys);
+            keys.stream().filter(key -> !referenced.contains(key)).forEach(counts::remove);
+            return referenced;
+        }
+    }
+
+    static class InMemoryS3Client implements S3Client {
+        final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        final Map<String, String> contentTypes = new ConcurrentHashMap<>();
+        final AtomicInteger bytesRead = new AtomicInteger();
+        final Map<String, SortedMap<Integer, byte[]>> pending = new ConcurrentHashMap<>();
+        final AtomicInteger multipartUploads = new AtomicInteger();
+        final AtomicInteger puts = new AtomicInteger();
+        final AtomicInteger copies = new AtomicInteger();
+        volatile boolean failCopies;
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+            puts.incrementAndGet();
+            objects.put(request.key(), read(body));
+            if (request.contentType() != null) {
+                contentTypes.put(request.key(), request.contentType());
+            }
+            return PutObjectResponse.builder().build();
+        }
+
+        @Override
+        public HeadObjectResponse headObject(HeadObjectRequest request) {
+            byte[] object = objects.get(request.key());
+            if (object == null) {
+                throw NoSuchKeyException.builder().message("Not found: " + request.key()).build();
+            }
+            return HeadObjectResponse.builder()
+                    .contentLength((long) object.length)
+                    .contentType(contentTypes.get(request.key()))
+                    .build();
+        }
+
+        @Override
+        public <ReturnT> ReturnT getObject(GetObjectRequest request,
+                ResponseTransformer<GetObjectResponse, ReturnT> transformer) {
+            byte[] object = objects.get(request.key());
+            if (object == null) {
+                throw NoSuchKeyException.builder().message("Not found: " + request.key()).build();
+            }
+            // Supports the "bytes=first-last" form only
+            int length = object.length;
+            if (request.range() != null) {
+                int last = Integer.parseInt(request.range().substring(request.range().indexOf('-') + 1));
+                length = Math.min(length, last + 1);
+            }
+            bytesRead.addAndGet(length);
+            try {
+                return transformer.transform(GetObjectResponse.builder().contentLength((long) length).build(),
+                        AbortableInputStream.create(new ByteArrayInputStream(object, 0, length)));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public CopyObjectResponse copyObject(CopyObjectRequest request) {
+            copies.incrementAndGet();
+            if (failCopies) {
+                throw S3Exception.builder().message("Copy failed").statusCode(500).build();
+            }
+            objects.put(request.destinationKey(), objects.get(request.sourceKey()));
+            return CopyObjectResponse.builder().build();
+        }
+
+        @Override
+        public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+            objects.remove(request.key());
+            contentTypes.remove(request.key());
+            return DeleteObjectResponse.builder().build();
+        }
+
+        @Override
+        public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+            request.delete().objects().forEach(object -> {
+                objects.remove(object.key());
+                contentTypes.remove(object.key());
+            });
+            return DeleteObjectsResponse.builder().build();
+        }
+
+        @Override
+        public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+            String uploadId = UUID.randomUUID().toString();
+            pending.put(uploadId, new TreeMap<>());
+            return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+        }
+
+        @Override
+        public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+            byte[] part = read(body);
+            pending.get(request.uploadId()).put(request.partNumber(), part);
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        }
+
+        @Override
+        public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            SortedMap<Integer, byte[]> parts = pending.remove(request.uploadId());
+            List<Integer> completed = request.multipartUpload().parts().stream()
+                    .map(CompletedPart::partNumber)
+                    .toList();
+            assertThat(completed).containsExactlyElementsOf(parts.keySet());
+            // Every part except the last must meet the S3 minimum
+            parts.values().stream().limit(parts.size() - 1L)
+                    .forEach(part -> assertThat(part.length).isGreaterThanOrEqualTo(PART_SIZE));
+
+            int size = parts.values().stream().mapToInt(part -> part.length).sum();
+            byte[] object = new byte[size];
+            int offset = 0;
+            for (byte[] part : parts.values()) {
+                System.arraycopy(part, 0, object, offset, part.length);
+                offset += part.length;
+            }
+            objects.put(request.key(), object);
+            multipartUploads.incrementAndGet();
+            return CompleteMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+            pending.remove(request.uploadId());
+            return AbortMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private static byte[] read(RequestBody body) {
+            try (InputStream content = body.contentStreamProvider().newStream()) {
+                return content.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
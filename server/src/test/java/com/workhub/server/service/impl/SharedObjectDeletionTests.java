@@ -0,0 +1,177 @@
+package com.workhub.server.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.workhub.server.config.AwsProperties;
+import com.workhub.server.repository.FileDeletionRepository;
+import com.workhub.server.repository.FileReferenceRepository;
+import com.workhub.server.service.FileReferenceService;
+import com.workhub.server.service.StoredFile;
+
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+
+/**
+ * Content-addressed uploads racing the deletion drainer for the same content. Every call commits on
+ * its own, as in production, so this test runs without a test transaction.
+ */
+@DataJpaTest(properties = {"aws.s3.content-addressed=true", "file-deletion.shared-object-grace=0s"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({FileDeletionServiceImpl.class, FileReferenceServiceImpl.class, SharedObjectDeletionTests.Storage.class})
+class SharedObjectDeletionTests {
+
+    private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    @Autowired
+    private S3FileStorageService storage;
+
+    @Autowired
+    private GatedS3Client s3Client;
+
+    @Autowired
+    private FileDeletionServiceImpl fileDeletionService;
+
+    @Autowired
+    private FileDeletionRepository fileDeletionRepository;
+
+    @Autowired
+    private FileReferenceRepository fileReferenceRepository;
+
+    @AfterEach
+    void tearDown() {
+        s3Client.gate = null;
+        s3Client.objects.clear();
+        fileDeletionRepository.deleteAll();
+        fileReferenceRepository.deleteAll();
+    }
+
+    @Test
+    void uploadDuringAClaimedDeleteKeepsACopyOfItsOwn() throws Exception {
+        byte[] content = png(1);
+        StoredFile original = upload(content);
+        fileDeletionService.enqueue(original.key());
+
+        CountDownLatch resume = new CountDownLatch(1);
+        s3Client.gate = resume;
+        ExecutorService drainer = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> drained = drainer.submit(fileDeletionService::drain);
+            // The drainer has claimed the delete and is waiting inside the storage call
+            assertThat(s3Client.deleting.await(5, TimeUnit.SECONDS)).isTrue();
+
+            StoredFile reupload = upload(content);
+            assertThat(reupload.key()).isNotEqualTo(original.key());
+            assertThat(fileReferenceRepository.existsById(original.key())).isFalse();
+
+            resume.countDown();
+            assertThat(drained.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+            assertThat(s3Client.objects).doesNotContainKey(original.key());
+            assertThat(s3Client.objects.get(reupload.key())).isEqualTo(content);
+        } finally {
+            resume.countDown();
+            drainer.shutdownNow();
+        }
+
+        // Once the delete is done the content key is used, and sent, again
+        StoredFile later = upload(content);
+        assertThat(later.key()).isEqualTo(original.key());
+        assertThat(s3Client.objects.get(later.key())).isEqualTo(content);
+        assertThat(fileReferenceRepository.findRefCount(later.key())).contains(1);
+    }
+
+    @Test
+    void uploadsRacingTheDrainerNeverLoseTheirObject() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 40; round++) {
+                byte[] content = png(round);
+                StoredFile original = upload(content);
+                fileDeletionService.enqueue(original.key());
+
+                CyclicBarrier start = new CyclicBarrier(2);
+                Future<Integer> drained = executor.submit(() -> {
+                    start.await();
+                    return fileDeletionService.drain();
+                });
+                Future<StoredFile> reupload = executor.submit(() -> {
+                    start.await();
+                    return upload(content);
+                });
+
+                StoredFile stored = reupload.get(10, TimeUnit.SECONDS);
+                drained.get(10, TimeUnit.SECONDS);
+                assertThat(s3Client.objects.get(stored.key())).as("round %d", round).isEqualTo(content);
+                if (stored.key().equals(original.key())) {
+                    assertThat(fileReferenceRepository.findRefCount(stored.key())).as("round %d", round).contains(1);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private StoredFile upload(byte[] content) {
+        return storage.upload(new ByteArrayInputStream(content), "uploads");
+    }
+
+    private static byte[] png(long seed) {
+        byte[] content = new byte[1024];
+        new Random(seed).nextBytes(content);
+        System.arraycopy(PNG_HEADER, 0, content, 0, PNG_HEADER.length);
+        return content;
+    }
+
+    static class GatedS3Client extends S3FileStorageServiceTests.InMemoryS3Client {
+        final CountDownLatch deleting = new CountDownLatch(1);
+        volatile CountDownLatch gate;
+
+        @Override
+        public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+            CountDownLatch resume = gate;
+            if (resume != null) {
+                deleting.countDown();
+                try {
+                    resume.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return super.deleteObjects(request);
+        }
+    }
+
+    @TestConfiguration
+    static class Storage {
+        @Bean
+        GatedS3Client s3Client() {
+            return new GatedS3Client();
+        }
+
+        @Bean
+        S3FileStorageService s3FileStorageService(GatedS3Client s3Client, FileReferenceService fileReferenceService) {
+            AwsProperties properties = new AwsProperties();
+            properties.getS3().setBucket("test-bucket");
+            properties.getS3().setContentAddressed(true);
+            return new S3FileStorageService(s3Client, null, properties, fileReferenceService);
+        }
+    }
+}
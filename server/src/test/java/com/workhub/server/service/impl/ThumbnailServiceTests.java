@@ -0,0 +1,187 @@
+package com.workhub.server.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.workhub.server.entity.Company;
+import com.workhub.server.repository.CompanyRepository;
+import com.workhub.server.service.FileDeletionService;
+import com.workhub.server.service.FileStorageService;
+import com.workhub.server.service.PresignedUrl;
+import com.workhub.server.service.StoredFile;
+
+/**
+ * Variants are generated on the background pool after commit, so this test runs without a test
+ * transaction and waits for the pool.
+ */
+@DataJpaTest(properties = {"thumbnail.widths=64,16", "thumbnail.max-decoded-pixels=100000"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ThumbnailServiceImpl.class, FileReferenceServiceImpl.class, ThumbnailServiceTests.InMemoryFileStorageService.class})
+class ThumbnailServiceTests {
+
+    private static final String BASE_URL = "https://workhub-test.s3.amazonaws.com/";
+
+    @Autowired
+    private ThumbnailServiceImpl thumbnailService;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private InMemoryFileStorageService storage;
+
+    @MockitoBean
+    private FileDeletionService fileDeletionService;
+
+    @AfterEach
+    void tearDown() {
+        companyRepository.deleteAll();
+        storage.objects.clear();
+    }
+
+    @Test
+    void logoVariantsAreStoredNextToTheOriginal() throws Exception {
+        storage.objects.put("uploads/logo.png", png(400, 200));
+        Company company = companyWithLogo(BASE_URL + "uploads/logo.png");
+
+        thumbnailService.generateLogoVariants(company.getId(), company.getLogoUrl());
+
+        await(() -> companyRepository.findById(company.getId()).orElseThrow().getLogoVariants() != null);
+        assertThat(companyRepository.findById(company.getId()).orElseThrow().getLogoVariants()).isEqualTo("16,64");
+
+        BufferedImage small = ImageIO.read(new ByteArrayInputStream(storage.objects.get("uploads/logo_16w.jpg")));
+        BufferedImage large = ImageIO.read(new ByteArrayInputStream(storage.objects.get("uploads/logo_64w.jpg")));
+        assertThat(small.getWidth()).isEqualTo(16);
+        assertThat(small.getHeight()).isEqualTo(8);
+        assertThat(large.getWidth()).isEqualTo(64);
+        assertThat(large.getHeight()).isEqualTo(32);
+    }
+
+    @Test
+    void variantsOfAReplacedLogoAreDiscarded() throws Exception {
+        storage.objects.put("uploads/old.png", png(400, 200));
+        Company company = companyWithLogo(BASE_URL + "uploads/new.png");
+
+        // Generation for the old logo finishes after the company switched to a new one
+        thumbnailService.generateLogoVariants(company.getId(), BASE_URL + "uploads/old.png");
+
+        await(() -> storage.objects.containsKey("uploads/old_64w.jpg"));
+        verify(fileDeletionService, timeout(5000)).enqueue("uploads/old_16w.jpg");
+        verify(fileDeletionService, timeout(5000)).enqueue("uploads/old_64w.jpg");
+        assertThat(companyRepository.findById(company.getId()).orElseThrow().getLogoVariants()).isNull();
+    }
+
+    @Test
+    void tallOriginalsAreSubsampledToThePixelCap() throws Exception {
+        // Narrow enough that width alone would decode all two million pixels
+        storage.objects.put("uploads/banner.png", png(100, 20000));
+        Company company = companyWithLogo(BASE_URL + "uploads/banner.png");
+
+        thumbnailService.generateLogoVariants(company.getId(), company.getLogoUrl());
+
+        await(() -> companyRepository.findById(company.getId()).orElseThrow().getLogoVariants() != null);
+        // Decoded at 1/5 scale (20 pixels wide), so only the 16 pixel variant fits without upscaling
+        assertThat(companyRepository.findById(company.getId()).orElseThrow().getLogoVariants()).isEqualTo("16");
+        assertThat(storage.objects).doesNotContainKey("uploads/banner_64w.jpg");
+    }
+
+    private Company companyWithLogo(String logoUrl) {
+        Company company = new Company();
+        company.setName("Acme");
+        company.setAddress("1 Main St");
+        company.setLogoUrl(logoUrl);
+        return companyRepository.save(company);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.BLUE);
+        graphics.fillOval(0, 0, width, height);
+        graphics.dispose();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        return bytes.toByteArray();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    static class InMemoryFileStorageService implements FileStorageService {
+        final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+        @Override
+        public InputStream open(String key) {
+            byte[] content = objects.get(key);
+            if (content == null) {
+                throw new UncheckedIOException(new IOException("No object " + key));
+            }
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public void store(String key, byte[] content, String contentType) {
+            objects.put(key, content);
+        }
+
+        @Override
+        public String upload(MultipartFile file, String folder) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public StoredFile upload(InputStream content, String folder) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PresignedUrl presignUpload(String folder, String contentType, long size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PresignedUrl presignDownload(String key) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public StoredFile completeUpload(String key, String contentType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(String key) {
+            objects.remove(key);
+        }
+    }
+}
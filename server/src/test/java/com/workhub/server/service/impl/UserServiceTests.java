@@ -0,0 +1,227 @@
+package com.workhub.server.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.workhub.server.constant.UserRole;
+import com.workhub.server.dto.request.UserRequest;
+import com.workhub.server.entity.Company;
+import com.workhub.server.entity.User;
+import com.workhub.server.exception.custom.CompanyNotFoundException;
+import com.workhub.server.exception.custom.UserNotFoundException;
+import com.workhub.server.mapper.UserMapperImpl;
+import com.workhub.server.repository.CompanyRepository;
+import com.workhub.server.repository.CompanyUserRepository;
+import com.workhub.server.repository.UserRepository;
+import com.workhub.server.security.AuthenticatedUser;
+import com.workhub.server.security.CustomUserDetailsService;
+import com.workhub.server.security.TokenRevocationRegistry;
+import com.workhub.server.security.UserDetailsCache;
+import com.workhub.server.service.ThumbnailService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Token revocation and cache eviction only take effect after commit, so this test runs without a
+ * test transaction and lets each service call commit on its own.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({UserServiceImpl.class, UserMapperImpl.class, TokenRevocationRegistry.class, UserDetailsCache.class,
+        CustomUserDetailsService.class, BCryptPasswordEncoder.class, SimpleMeterRegistry.class})
+class UserServiceTests {
+
+    private static final Date ISSUED_EARLIER = Date.from(Instant.now().minusSeconds(30));
+
+    @Autowired
+    private UserServiceImpl userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private CompanyUserRepository companyUserRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private ThumbnailService thumbnailService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setFullName("Jane Doe");
+        user.setEmail("jane@acme.test");
+        user.setPasswordHash(passwordEncoder.encode("secret1"));
+        user.setRole(UserRole.STAFF);
+        user.setIsActive(true);
+        user = userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        companyUserRepository.deleteAll();
+        userRepository.deleteAll();
+        companyRepository.deleteAll();
+    }
+
+    @Test
+    void resendingTheSamePasswordKeepsTokens() {
+        userService.updateUser(user.getId(), request("secret1"));
+
+        assertThat(tokenRevocationRegistry.isRevoked(user.getId(), ISSUED_EARLIER)).isFalse();
+    }
+
+    @Test
+    void passwordChangeRevokesTokens() {
+        userService.updateUser(user.getId(), request("secret2"));
+
+        assertThat(tokenRevocationRegistry.isRevoked(user.getId(), ISSUED_EARLIER)).isTrue();
+        assertThat(passwordEncoder.matches("secret2",
+                userRepository.findById(user.getId()).orElseThrow().getPasswordHash())).isTrue();
+    }
+
+    @Test
+    void companyChangeRevokesTokens() {
+        Company company = new Company();
+        company.setName("Acme");
+        company.setAddress("1 Main St");
+        company = companyRepository.save(company);
+
+        UserRequest request = request("secret1");
+        request.setCompanyId(company.getId());
+        userService.updateUser(user.getId(), request);
+
+        assertThat(tokenRevocationRegistry.isRevoked(user.getId(), ISSUED_EARLIER)).isTrue();
+    }
+
+    @Test
+    void rolledBackUpdateRevokesNothing() {
+        UserRequest request = request("secret2");
+        request.setCompanyId(UUID.randomUUID());
+
+        assertThatThrownBy(() -> userService.updateUser(user.getId(), request))
+                .isInstanceOf(CompanyNotFoundException.class);
+        assertThat(tokenRevocationRegistry.isRevoked(user.getId(), ISSUED_EARLIER)).isFalse();
+    }
+
+    @Test
+    void roleChangeIsNotServedFromTheCache() {
+        assertThat(principal().getRole()).isEqualTo(UserRole.STAFF);
+
+        UserRequest request = request("secret1");
+        request.setRole(UserRole.MANAGER);
+        userService.updateUser(user.getId(), request);
+
+        assertThat(principal().getRole()).isEqualTo(UserRole.MANAGER);
+    }
+
+    @Test
+    void deactivatedAndDeletedUsersAreNotServedFromTheCache() {
+        principal();
+
+        UserRequest request = request("secret1");
+        request.setIsActive(false);
+        userService.updateUser(user.getId(), request);
+        assertThatThrownBy(this::principal).isInstanceOf(UsernameNotFoundException.class);
+
+        // Cached under the old email; deleting by id must still evict it
+        request.setIsActive(true);
+        userService.updateUser(user.getId(), request);
+        principal();
+        userService.deleteUser(user.getId());
+        assertThatThrownBy(this::principal).isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    @Test
+    void deletingAUserDropsItsAvatarVariants() {
+        user.setAvatarUrl("https://workhub-test.s3.amazonaws.com/avatars/jane.png");
+        user.setAvatarVariants("64,256");
+        userRepository.save(user);
+
+        userService.deleteUser(user.getId());
+
+        verify(thumbnailService).deleteVariants("https://workhub-test.s3.amazonaws.com/avatars/jane.png", "64,256");
+        assertThatThrownBy(() -> userService.deleteUser(user.getId())).isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    void reloadBeforeCommitIsEvictedAfterCommit() throws Exception {
+        principal();
+        ExecutorService concurrentRequest = Executors.newSingleThreadExecutor();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                UserRequest request = request("secret1");
+                request.setRole(UserRole.MANAGER);
+                userService.updateUser(user.getId(), request);
+                // Another request reloads the committed row, still STAFF, and caches it
+                AuthenticatedUser stale = submit(concurrentRequest, this::principal);
+                assertThat(stale.getRole()).isEqualTo(UserRole.STAFF);
+            });
+        } finally {
+            concurrentRequest.shutdownNow();
+        }
+
+        assertThat(principal().getRole()).isEqualTo(UserRole.MANAGER);
+    }
+
+    private AuthenticatedUser principal() {
+        return (AuthenticatedUser) userDetailsService.loadUserByUsername(user.getEmail());
+    }
+
+    private static <T> T submit(ExecutorService executor, Callable<T> task) {
+        try {
+            return executor.submit(task).get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private UserRequest request(String password) {
+        return UserRequest.builder()
+                .fullName(user.getFullName())
+                .email(user.getEmail())
+                .password(password)
+                .role(user.getRole())
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,235 @@
+package com.workhub.server.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.workhub.server.cache.CountCache;
+import com.workhub.server.constant.JobPriority;
+import com.workhub.server.constant.JobStatus;
+import com.workhub.server.constant.TaskStatus;
+import com.workhub.server.constant.UserRole;
+import com.workhub.server.dto.request.JobRequest;
+import com.workhub.server.dto.request.JobStatusUpdateRequest;
+import com.workhub.server.dto.request.TaskCommentRequest;
+import com.workhub.server.dto.request.TaskRequest;
+import com.workhub.server.dto.request.TaskStatusUpdateRequest;
+import com.workhub.server.dto.response.JobResponse;
+import com.workhub.server.dto.response.TaskCommentResponse;
+import com.workhub.server.dto.response.TaskResponse;
+import com.workhub.server.entity.Company;
+import com.workhub.server.entity.CompanyUser;
+import com.workhub.server.entity.Job;
+import com.workhub.server.entity.Task;
+import com.workhub.server.entity.TaskComment;
+import com.workhub.server.entity.User;
+import com.workhub.server.exception.custom.TaskNotFoundException;
+import com.workhub.server.mapper.JobMapperImpl;
+import com.workhub.server.mapper.TaskCommentMapperImpl;
+import com.workhub.server.mapper.TaskMapperImpl;
+import com.workhub.server.mapper.UserMapperImpl;
+import com.workhub.server.security.TokenRevocationRegistry;
+import com.workhub.server.security.UserDetailsCache;
+import com.workhub.server.service.ThumbnailService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Write endpoints attach references as proxies: each write is the statement itself plus one reference
+ * lookup, and one more load when an existing row is modified. Deletes never load the row.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TaskServiceImpl.class, JobServiceImpl.class, TaskCommentServiceImpl.class, UserServiceImpl.class,
+        TaskMapperImpl.class, JobMapperImpl.class, TaskCommentMapperImpl.class, UserMapperImpl.class, CountCache.class,
+        TokenRevocationRegistry.class, UserDetailsCache.class, BCryptPasswordEncoder.class,
+        SimpleMeterRegistry.class})
+class WriteStatementCountTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskServiceImpl taskService;
+
+    @Autowired
+    private JobServiceImpl jobService;
+
+    @Autowired
+    private TaskCommentServiceImpl taskCommentService;
+
+    @Autowired
+    private UserServiceImpl userService;
+
+    @MockitoBean
+    private ThumbnailService thumbnailService;
+
+    private Statistics statistics;
+    private Company company;
+    private User user;
+    private Job job;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        company = new Company();
+        company.setName("Acme");
+        company.setAddress("1 Main St");
+        entityManager.persist(company);
+
+        user = new User();
+        user.setFullName("Jane Doe");
+        user.setEmail("jane@acme.test");
+        user.setPasswordHash("hash");
+        user.setRole(UserRole.MANAGER);
+        entityManager.persist(user);
+
+        job = new Job();
+        job.setCompany(company);
+        job.setOwner(user);
+        job.setTitle("Launch");
+        job.setStatus(JobStatus.PENDING);
+        job.setPriority(JobPriority.HIGH);
+        entityManager.persist(job);
+
+        task = new Task();
+        task.setCompany(company);
+        task.setJob(job);
+        task.setAssignee(user);
+        task.setTitle("Write docs");
+        task.setStatus(TaskStatus.TODO);
+        entityManager.persist(task);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void taskWritesUseOneReferenceLookup() {
+        TaskRequest request = TaskRequest.builder()
+                .companyId(company.getId())
+                .jobId(job.getId())
+                .assigneeId(user.getId())
+                .title("Ship it")
+                .status(TaskStatus.TODO)
+                .build();
+
+        // reference lookup + insert
+        TaskResponse created = assertStatements(2, () -> taskService.createTask(request));
+        assertNames(created);
+
+        // task load + reference lookup + update
+        request.setTitle("Ship it now");
+        assertNames(assertStatements(3, () -> taskService.updateTask(created.getId(), request)));
+        assertNames(assertStatements(3, () -> taskService.updateTaskStatus(created.getId(),
+                new TaskStatusUpdateRequest(TaskStatus.DONE))));
+    }
+
+    @Test
+    void jobWritesUseOneReferenceLookup() {
+        JobRequest request = JobRequest.builder()
+                .companyId(company.getId())
+                .ownerId(user.getId())
+                .title("Rollout")
+                .status(JobStatus.PENDING)
+                .priority(JobPriority.LOW)
+                .build();
+
+        JobResponse created = assertStatements(2, () -> jobService.createJob(request));
+        assertThat(created.getCompanyName()).isEqualTo("Acme");
+        assertThat(created.getOwnerName()).isEqualTo("Jane Doe");
+
+        request.setTitle("Rollout v2");
+        assertThat(assertStatements(3, () -> jobService.updateJob(created.getId(), request)).getOwnerName())
+                .isEqualTo("Jane Doe");
+        assertThat(assertStatements(3, () -> jobService.updateJobStatus(created.getId(),
+                new JobStatusUpdateRequest(JobStatus.COMPLETED))).getCompanyName())
+                .isEqualTo("Acme");
+    }
+
+    @Test
+    void commentWriteUsesOneReferenceLookup() {
+        TaskCommentRequest request = TaskCommentRequest.builder()
+                .taskId(task.getId())
+                .userId(user.getId())
+                .message("Looks good")
+                .build();
+
+        TaskCommentResponse created = assertStatements(2, () -> taskCommentService.createComment(request));
+        assertThat(created.getTaskTitle()).isEqualTo("Write docs");
+        assertThat(created.getUserName()).isEqualTo("Jane Doe");
+    }
+
+    @Test
+    void deletesRunOneStatementPerTable() {
+        TaskComment comment = new TaskComment();
+        comment.setTask(entityManager.getEntityManager().getReference(Task.class, task.getId()));
+        comment.setUser(entityManager.getEntityManager().getReference(User.class, user.getId()));
+        comment.setMessage("Looks good");
+        entityManager.persist(comment);
+
+        User member = new User();
+        member.setFullName("John Roe");
+        member.setEmail("john@acme.test");
+        member.setPasswordHash("hash");
+        member.setRole(UserRole.STAFF);
+        entityManager.persist(member);
+        for (int i = 0; i < 3; i++) {
+            Company other = new Company();
+            other.setName("Company " + i);
+            other.setAddress("1 Main St");
+            entityManager.persist(other);
+            entityManager.persist(new CompanyUser(null, other, member, null));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        assertStatements(1, () -> taskCommentService.deleteComment(comment.getId()));
+        assertStatements(1, () -> taskService.deleteTask(task.getId()));
+        assertStatements(1, () -> jobService.deleteJob(job.getId()));
+        // Avatar columns are read to drop its variants; memberships go in one statement however many there are
+        assertStatements(3, () -> userService.deleteUser(member.getId()));
+
+        assertThatThrownBy(() -> taskService.deleteTask(task.getId())).isInstanceOf(TaskNotFoundException.class);
+    }
+
+    private void assertStatements(int expected, Runnable write) {
+        assertStatements(expected, () -> {
+            write.run();
+            return null;
+        });
+    }
+
+    private <T> T assertStatements(int expected, Supplier<T> write) {
+        T result = write.get();
+        entityManager.flush();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        entityManager.clear();
+        statistics.clear();
+        return result;
+    }
+
+    private void assertNames(TaskResponse response) {
+        assertThat(response.getCompanyName()).isEqualTo("Acme");
+        assertThat(response.getJobTitle()).isEqualTo("Launch");
+        assertThat(response.getAssigneeName()).isEqualTo("Jane Doe");
+    }
+}